@@ -0,0 +1,106 @@
+package com.royal.taskManagement.config;
+
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Аутентифицированный пользователь, хранящийся в контексте безопасности.
+ * Помимо почты и ролей содержит идентификатор пользователя, поэтому контроллерам и сервисам
+ * не нужно повторно загружать пользователя из базы данных.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final List<String> roles;
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Конструктор аутентифицированного пользователя.
+     *
+     * @param id       идентификатор пользователя.
+     * @param email    электронная почта пользователя.
+     * @param password хэш пароля или пустая строка, если пароль неизвестен.
+     * @param roles    названия ролей пользователя, например "USER" или "ADMIN".
+     */
+    public AuthenticatedUser(Long id, String email, String password, Collection<String> roles) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.roles = List.copyOf(roles);
+        this.authorities = this.roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+
+    /**
+     * Создает аутентифицированного пользователя из сущности.
+     *
+     * @param user сущность пользователя.
+     * @return объект {@link AuthenticatedUser}.
+     */
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getRoles().stream().map(Role::getName).toList()
+        );
+    }
+
+    /**
+     * Создает отсоединенную сущность пользователя с идентификатором, почтой и ролями.
+     * Сущность не загружается из базы и подходит для проверки прав и ссылок по внешнему ключу.
+     *
+     * @return объект {@link User}.
+     */
+    public User toUser() {
+        User user = new User(roles.stream().map(AuthenticatedUser::role).toList());
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static Role role(String name) {
+        Role role = new Role();
+        role.setName(name);
+        return role;
+    }
+
+    /**
+     * Геттеры
+     */
+    public Long getId() {
+        return id;
+    }
+
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
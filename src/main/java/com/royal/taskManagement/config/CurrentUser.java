@@ -0,0 +1,18 @@
+package com.royal.taskManagement.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Помечает параметр метода контроллера типа {@link com.royal.taskManagement.entity.User},
+ * в который подставляется текущий аутентифицированный пользователь.
+ * Пользователь строится из {@link AuthenticatedUser} без обращения к базе данных.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
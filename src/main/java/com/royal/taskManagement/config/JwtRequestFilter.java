@@ -2,11 +2,16 @@ package com.royal.taskManagement.config;
 
 import com.royal.taskManagement.service.UserDetailsServiceImpl;
 import com.royal.taskManagement.service.JwtService;
+import com.royal.taskManagement.service.TokenRevocationService;
+import com.royal.taskManagement.service.TokenVersionRegistry;
+import com.royal.taskManagement.service.VerifiedToken;
+import com.royal.taskManagement.service.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +20,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Фильтр для обработки JWT-токенов в каждом HTTP-запросе.
@@ -25,22 +31,37 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtService jwtUtil;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean stateless;
 
     /**
      * Конструктор для внедрения зависимостей.
      *
-     * @param userDetailsService сервис загрузки информации о пользователе
-     * @param jwtUtil            сервис для работы с JWT-токенами
+     * @param userDetailsService   сервис загрузки информации о пользователе
+     * @param jwtUtil              сервис для работы с JWT-токенами
+     * @param tokenCache           кэш уже проверенных JWT-токенов
+     * @param tokenVersionRegistry реестр актуальных версий токенов пользователей
+     * @param tokenRevocationService сервис отзыва токенов
+     * @param stateless            строить аутентификацию из claims токена без загрузки пользователя из базы
      */
     @Autowired
-    public JwtRequestFilter(UserDetailsServiceImpl userDetailsService, JwtService jwtUtil) {
+    public JwtRequestFilter(UserDetailsServiceImpl userDetailsService, JwtService jwtUtil, VerifiedTokenCache tokenCache,
+                            TokenVersionRegistry tokenVersionRegistry, TokenRevocationService tokenRevocationService,
+                            @Value("${app.jwtStateless:false}") boolean stateless) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.tokenCache = tokenCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenRevocationService = tokenRevocationService;
+        this.stateless = stateless;
     }
 
     /**
      * Основной метод фильтрации запросов.
-     * Проверяет наличие JWT, валидирует его и устанавливает аутентификацию.
+     * Проверяет наличие JWT, валидирует его за один разбор (или берет из кэша) и устанавливает аутентификацию.
+     * Refresh-токены и отозванные токены не принимаются.
      *
      * @param request     HTTP-запрос
      * @param response    HTTP-ответ
@@ -51,34 +72,52 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String requestURI = request.getServletPath();
-        if (requestURI.equals("/authenticate") || requestURI.equals("/register")) {
+        if (requestURI.equals("/authenticate") || requestURI.equals("/register") || requestURI.equals("/refresh")) {
             filterChain.doFilter(request, response);
             return;
         }
 
         final String authorizationHeader = request.getHeader("Authorization");
-        String username = null;
-        String jwt = null;
 
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
-        }
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String jwt = authorizationHeader.substring(7);
+            Optional<VerifiedToken> verifiedToken = tokenCache.getOrVerify(jwt, jwtUtil::verifyToken)
+                    .filter(token -> !token.isRefreshToken())
+                    .filter(token -> !tokenRevocationService.isRevoked(token));
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = verifiedToken.map(this::resolveUserDetails).orElse(null);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                logger.info("Valid JWT token for user: " + username);
+            if (userDetails != null) {
+                logger.info("Valid JWT token for user: " + userDetails.getUsername());
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             } else {
-                logger.error("Invalid JWT token for user: " + username);
+                logger.error("Invalid JWT token");
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Определяет пользователя по проверенному токену.
+     * В stateless-режиме пользователь строится из claims токена, если токен их содержит,
+     * а версия токенов пользователя актуальна; иначе пользователь загружается из базы.
+     *
+     * @param token проверенный токен
+     * @return данные пользователя или null, если токен устарел
+     */
+    private UserDetails resolveUserDetails(VerifiedToken token) {
+        if (!stateless || !token.hasUserClaims()) {
+            return userDetailsService.loadUserByUsername(token.getUsername());
+        }
+        if (!tokenVersionRegistry.isCurrent(token.getUserId(), token.getTokenVersion())) {
+            logger.warn("Outdated JWT token version for user: " + token.getUsername());
+            return null;
+        }
+        return new AuthenticatedUser(token.getUserId(), token.getUsername(), "", token.getRoles());
+    }
 }
@@ -1,5 +1,9 @@
 package com.royal.taskManagement.config;
 
+import com.royal.taskManagement.service.BoundedPasswordEncoder;
+import com.royal.taskManagement.service.PasswordHashingExecutor;
+import com.royal.taskManagement.service.PasswordStrengthCalibrator;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -46,13 +50,22 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Асинхронное продолжение уже авторизованного запроса (потоковая выгрузка);
+                        // при stateless-аутентификации контекст безопасности в нем не восстанавливается
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/authenticate").permitAll()
                         .requestMatchers("/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/refresh").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/tasks").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/tasks/import").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/tasks/{id}").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/tasks/{id}").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/tasks/bulk/delete").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PATCH, "/api/tasks/{id}/assign").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PATCH, "/api/tasks/bulk").hasAnyRole("ADMIN", "USER")
+                        .requestMatchers(HttpMethod.GET, "/api/tasks/export").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.GET, "/api/tasks/{id}").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.PATCH, "/api/tasks/{id}/status").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.PATCH, "/api/tasks/{id}/priority").hasAnyRole("ADMIN", "USER")
@@ -62,6 +75,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/tasks/{taskId}/comments").hasAnyRole("ADMIN", "USER")
                         .requestMatchers(HttpMethod.GET, "/api/tasks/{taskId}/comments").hasAnyRole("ADMIN", "USER")
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -84,12 +99,17 @@ public class SecurityConfig {
 
     /**
      * Определяет кодировщик паролей.
+     * Хеширование выполняется в ограниченном пуле {@link PasswordHashingExecutor}
+     * со стоимостью, подобранной {@link PasswordStrengthCalibrator}.
      *
+     * @param passwordHashingExecutor пул для хеширования паролей
+     * @param calibrator              источник стоимости BCrypt
      * @return объект PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                           PasswordStrengthCalibrator calibrator) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(calibrator.getStrength()), passwordHashingExecutor);
     }
 
 
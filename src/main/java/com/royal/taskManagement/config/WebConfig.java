@@ -0,0 +1,25 @@
+package com.royal.taskManagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Конфигурация Spring MVC.
+ * Регистрирует обработчик параметров {@link CurrentUser}.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Добавляет обработчик параметров текущего пользователя.
+     *
+     * @param resolvers список обработчиков параметров
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver());
+    }
+}
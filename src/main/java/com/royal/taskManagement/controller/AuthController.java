@@ -2,20 +2,29 @@ package com.royal.taskManagement.controller;
 
 import com.royal.taskManagement.dto.AuthenticationRequestDTO;
 import com.royal.taskManagement.dto.AuthenticationResponseDTO;
+import com.royal.taskManagement.dto.RefreshTokenRequestDTO;
 import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.exception.RateLimitExceededException;
+import com.royal.taskManagement.exception.ServiceOverloadedException;
 import com.royal.taskManagement.service.AuthService;
+import com.royal.taskManagement.service.LoginRateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -25,22 +34,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
     private final Logger LOGGER = LoggerFactory.getLogger(AuthController.class);
 
     /**
      * Конструктор для внедрения зависимостей.
      *
-     * @param authService сервис аутентификации и регистрации
+     * @param authService      сервис аутентификации и регистрации
+     * @param loginRateLimiter ограничитель частоты попыток входа
      */
     @Autowired
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, LoginRateLimiter loginRateLimiter) {
         this.authService = authService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     /**
      * Аутентификация пользователя по email и паролю.
      *
+     * Попытки сверх лимита по почте или IP-адресу отклоняются до проверки пароля.
+     *
      * @param authenticationRequest объект с учетными данными пользователя
+     * @param request               HTTP-запрос, из которого берется IP-адрес клиента
      * @return ответ с JWT-токеном в случае успешной аутентификации или сообщение об ошибке
      */
     @Operation(
@@ -52,16 +67,29 @@ public class AuthController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = AuthenticationResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Ошибка аутентификации",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "429", description = "Слишком много попыток входа",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Сервис перегружен, повторите запрос позже",
                     content = @Content(mediaType = "application/json"))
     })
     @PostMapping("/authenticate")
     public ResponseEntity<?> createAuthenticationToken(
-            @RequestBody @Parameter(description = "Объект с учетными данными для аутентификации") AuthenticationRequestDTO authenticationRequest) {
+            @RequestBody @Parameter(description = "Объект с учетными данными для аутентификации") AuthenticationRequestDTO authenticationRequest,
+            HttpServletRequest request) {
 
         LOGGER.info("Попытка аутентифицировать пользователя: " + authenticationRequest.getEmail());
         try {
+            loginRateLimiter.checkLogin(authenticationRequest.getEmail(), request.getRemoteAddr());
             AuthenticationResponseDTO response = authService.authenticate(authenticationRequest);
             return ResponseEntity.ok(response);
+        } catch (RateLimitExceededException e) {
+            LOGGER.warn("Попытка входа отклонена лимитом: " + authenticationRequest.getEmail());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
+        } catch (ServiceOverloadedException e) {
+            return overloaded(e);
         } catch (Exception e) {
             LOGGER.error("Аутентификация провалена", e);
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -82,6 +110,8 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Регистрация успешна",
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Ошибка регистрации",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Сервис перегружен, повторите запрос позже",
                     content = @Content(mediaType = "application/json"))
     })
     @PostMapping("/register")
@@ -92,9 +122,80 @@ public class AuthController {
         try {
             String message = authService.register(user);
             return ResponseEntity.ok(message);
+        } catch (ServiceOverloadedException e) {
+            return overloaded(e);
         } catch (IllegalArgumentException e) {
             LOGGER.error("Регистрация провалена", e);
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    /**
+     * Обмен refresh-токена на новую пару токенов.
+     *
+     * @param request объект с refresh-токеном
+     * @return ответ с новыми JWT и refresh-токеном или сообщение об ошибке
+     */
+    @Operation(
+            summary = "Обновление токенов",
+            description = "Обменивает refresh-токен на новую пару JWT и refresh-токена. Использованный refresh-токен отзывается."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Токены обновлены",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthenticationResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Refresh-токен недействителен или уже использован",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(
+            @RequestBody @Parameter(description = "Объект с refresh-токеном") RefreshTokenRequestDTO request) {
+
+        try {
+            AuthenticationResponseDTO response = authService.refresh(request.getRefreshToken());
+            return ResponseEntity.ok(response);
+        } catch (BadCredentialsException e) {
+            LOGGER.warn("Обновление токенов отклонено: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Выход из системы с отзывом токенов.
+     *
+     * @param authorization заголовок Authorization с текущим JWT
+     * @param request       объект с refresh-токеном (необязательно)
+     * @return сообщение о результате выхода
+     */
+    @Operation(
+            summary = "Выход из системы",
+            description = "Отзывает текущий JWT и, если передан, refresh-токен пользователя."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Выход выполнен",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "JWT токен недействителен",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader("Authorization") @Parameter(hidden = true) String authorization,
+            @RequestBody(required = false) @Parameter(description = "Объект с refresh-токеном") RefreshTokenRequestDTO request) {
+
+        try {
+            String accessToken = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+            authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+            return ResponseEntity.ok("Выход выполнен");
+        } catch (BadCredentialsException e) {
+            LOGGER.warn("Выход отклонен: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<String> overloaded(ServiceOverloadedException e) {
+        LOGGER.warn("Запрос отклонен из-за перегрузки: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body("Сервис перегружен, повторите попытку позже");
+    }
 }
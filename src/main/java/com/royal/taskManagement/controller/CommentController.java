@@ -1,10 +1,11 @@
 package com.royal.taskManagement.controller;
 
+import com.royal.taskManagement.config.CurrentUser;
 import com.royal.taskManagement.dto.CommentDTO;
 import com.royal.taskManagement.entity.Comment;
 import com.royal.taskManagement.entity.User;
 import com.royal.taskManagement.service.CommentService;
-import com.royal.taskManagement.service.UserDetailsServiceImpl;
+import com.royal.taskManagement.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,9 +13,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,18 +28,15 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final UserDetailsServiceImpl userDetailsServiceImpl;
 
     /**
      * Конструктор контроллера комментариев.
      *
-     * @param commentService         сервис для работы с комментариями
-     * @param userDetailsServiceImpl сервис для работы с данными пользователя
+     * @param commentService сервис для работы с комментариями
      */
     @Autowired
-    public CommentController(CommentService commentService, UserDetailsServiceImpl userDetailsServiceImpl) {
+    public CommentController(CommentService commentService) {
         this.commentService = commentService;
-        this.userDetailsServiceImpl = userDetailsServiceImpl;
     }
 
     /**
@@ -46,7 +44,7 @@ public class CommentController {
      *
      * @param taskId      ID задачи
      * @param comment     объект комментария
-     * @param userDetails данные аутентифицированного пользователя
+     * @param user        текущий пользователь
      * @return созданный комментарий или ошибка
      */
     @Operation(
@@ -63,12 +61,9 @@ public class CommentController {
     public ResponseEntity<?> addCommentToTask(
             @PathVariable Long taskId,
             @RequestBody @Parameter(description = "Комментарий, который необходимо добавить к задаче") Comment comment,
-            @AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails) {
-
-        User currentUser = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-
+            @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            CommentDTO createdComment = commentService.addCommentToTask(taskId, comment, currentUser);
+            CommentDTO createdComment = commentService.addCommentToTask(taskId, comment, user);
             return ResponseEntity.ok(createdComment);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -77,9 +72,12 @@ public class CommentController {
 
     /**
      * Получает список комментариев для указанной задачи.
+     * ETag строится из версии задачи, поэтому при совпадении с {@code If-None-Match}
+     * возвращается 304 без загрузки комментариев.
      *
      * @param taskId      ID задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param ifNoneMatch ETag ранее полученного списка комментариев
+     * @param user        текущий пользователь
      * @return список комментариев или ошибка
      */
     @Operation(
@@ -89,19 +87,23 @@ public class CommentController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список комментариев успешно получен",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommentDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Комментарии не изменились с указанного ETag"),
             @ApiResponse(responseCode = "400", description = "Ошибка при получении комментариев",
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping
     public ResponseEntity<?> getCommentsByTaskId(
             @PathVariable Long taskId,
-            @AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails) {
-
-        User currentUser = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            @Parameter(description = "ETag ранее полученного списка комментариев") String ifNoneMatch,
+            @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            List<CommentDTO> comments = commentService.getCommentsByTaskId(taskId, currentUser);
-            return ResponseEntity.ok(comments);
+            String eTag = ETags.forComments(taskId, commentService.getTaskVersion(taskId, user));
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            List<CommentDTO> comments = commentService.getCommentsByTaskId(taskId, user);
+            return ResponseEntity.ok().eTag(eTag).body(comments);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
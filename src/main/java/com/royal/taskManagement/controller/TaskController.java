@@ -1,27 +1,52 @@
 package com.royal.taskManagement.controller;
 
+import com.royal.taskManagement.config.CurrentUser;
+import com.royal.taskManagement.dto.SliceDTO;
+import com.royal.taskManagement.dto.TaskBulkDeleteResultDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateResultDTO;
 import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.dto.TaskImportReportDTO;
+import com.royal.taskManagement.dto.TaskSummaryDTO;
 import com.royal.taskManagement.entity.User;
 import com.royal.taskManagement.entity.enums.TaskPriority;
 import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.ConflictException;
+import com.royal.taskManagement.exception.PreconditionFailedException;
+import com.royal.taskManagement.exception.ResourceNotFoundException;
+import com.royal.taskManagement.exception.ServiceOverloadedException;
+import com.royal.taskManagement.exception.TaskImportAbortedException;
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
+import com.royal.taskManagement.service.TaskBulkService;
+import com.royal.taskManagement.service.TaskExportService;
+import com.royal.taskManagement.service.TaskImportService;
+import com.royal.taskManagement.service.TaskListQuery;
 import com.royal.taskManagement.service.TaskService;
-import com.royal.taskManagement.service.UserDetailsServiceImpl;
+import com.royal.taskManagement.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springdoc.core.annotations.ParameterObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 
 /**
@@ -32,26 +57,36 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
-    private final UserDetailsServiceImpl userDetailsServiceImpl;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskBulkService taskBulkService;
     private final Logger LOGGER = LoggerFactory.getLogger(TaskController.class);
 
+    private static final String EXPORT_NDJSON = "ndjson";
+    private static final String EXPORT_CSV = "csv";
+
     /**
      * Конструктор для внедрения зависимостей.
      *
-     * @param taskService            сервис для работы с задачами
-     * @param userDetailsServiceImpl сервис для получения информации о пользователях
+     * @param taskService       сервис для работы с задачами
+     * @param taskExportService сервис потоковой выгрузки задач
+     * @param taskImportService сервис массового импорта задач
+     * @param taskBulkService   сервис группового изменения задач
      */
     @Autowired
-    public TaskController(TaskService taskService, UserDetailsServiceImpl userDetailsServiceImpl) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService,
+                          TaskImportService taskImportService, TaskBulkService taskBulkService) {
         this.taskService = taskService;
-        this.userDetailsServiceImpl = userDetailsServiceImpl;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskBulkService = taskBulkService;
     }
 
     /**
      * Создание новой задачи.
      *
      * @param taskDTO     данные новой задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param user        текущий пользователь
      * @return созданная задача
      */
     @Operation(
@@ -66,10 +101,9 @@ public class TaskController {
     })
     @PostMapping
     public ResponseEntity<?> createTask(@RequestBody @Parameter(description = "Данные новой задачи") TaskDTO taskDTO,
-                                        @AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails) {
+                                        @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User author = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            TaskDTO createdTask = taskService.createTask(taskDTO, author);
+            TaskDTO createdTask = taskService.createTask(taskDTO, user);
             return ResponseEntity.ok(createdTask);
         } catch (Exception e) {
             LOGGER.error("Ошибка создания задачи: ", e);
@@ -79,9 +113,12 @@ public class TaskController {
 
     /**
      * Получение задачи по ID.
+     * Возвращает 304 без тела, если ETag задачи совпадает с {@code If-None-Match}; версия для сравнения
+     * читается без загрузки задачи, а задача загружается только при несовпадении.
      *
      * @param id          идентификатор задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param ifNoneMatch ETag ранее полученной задачи
+     * @param user        текущий пользователь
      * @return найденная задача
      */
     @Operation(
@@ -91,15 +128,23 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Задача успешно получена",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Задача не изменилась с указанного ETag"),
             @ApiResponse(responseCode = "500", description = "Ошибка получения задачи",
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<?> getTaskById(@PathVariable Long id, @AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails) {
+    public ResponseEntity<?> getTaskById(@PathVariable Long id,
+                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                         @Parameter(description = "ETag ранее полученной задачи") String ifNoneMatch,
+                                         @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            TaskDTO taskDTO = taskService.getTaskById(id, user);
-            return ResponseEntity.ok(taskDTO);
+            if (ifNoneMatch != null) {
+                String current = ETags.forTask(id, taskService.getTaskVersion(id, user));
+                if (ETags.matches(ifNoneMatch, current)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+                }
+            }
+            return withETag(taskService.getTaskById(id, user));
         } catch (Exception e) {
             LOGGER.error("Ошибка при выборе задачи по id: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка при выборе задачи по id: " + e.getMessage());
@@ -111,7 +156,8 @@ public class TaskController {
      *
      * @param id          идентификатор задачи
      * @param taskDTO     обновленные данные задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param ifMatch     ETag задачи, которую изменяет клиент
+     * @param user        текущий пользователь
      * @return обновленная задача
      */
     @Operation(
@@ -121,16 +167,23 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Задача успешно обновлена",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskDTO.class))),
+            @ApiResponse(responseCode = "409", description = "Задачу одновременно изменил другой запрос"),
+            @ApiResponse(responseCode = "412", description = "Задача изменилась после получения ETag"),
             @ApiResponse(responseCode = "500", description = "Ошибка обновления задачи",
                     content = @Content(mediaType = "application/json"))
     })
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTask(@PathVariable Long id, @RequestBody @Parameter(description = "Обновленные данные задачи") TaskDTO taskDTO,
-                                        @AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails) {
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                        @Parameter(description = "ETag задачи; при несовпадении версии возвращается 412") String ifMatch,
+                                        @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            TaskDTO updatedTask = taskService.updateTask(id, taskDTO, user);
-            return ResponseEntity.ok(updatedTask);
+            TaskDTO updatedTask = taskService.updateTask(id, taskDTO, user, ETags.expectedTaskVersion(ifMatch, id));
+            return withETag(updatedTask);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Ошибка обновления задачи: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка обновления задачи: " + e.getMessage());
@@ -141,105 +194,330 @@ public class TaskController {
      * Удаление задачи по ID.
      *
      * @param id          идентификатор задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param async       удалить в фоне; для задач с большим количеством комментариев
+     * @param user        текущий пользователь
      * @return статус удаления
      */
     @Operation(
             summary = "Удаление задачи по ID",
-            description = "Удаляет задачу по указанному ID."
+            description = "Удаляет задачу по указанному ID вместе с комментариями. С параметром async=true удаление " +
+                    "ставится в фоновую очередь: комментарии удаляются пачками в коротких транзакциях, ответ — 202."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Задача успешно удалена"),
+            @ApiResponse(responseCode = "202", description = "Удаление задачи поставлено в очередь"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена"),
+            @ApiResponse(responseCode = "503", description = "Очередь удаления переполнена"),
             @ApiResponse(responseCode = "500", description = "Ошибка удаления задачи",
                     content = @Content(mediaType = "application/json"))
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTask(@PathVariable Long id, @AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails) {
+    public ResponseEntity<?> deleteTask(@PathVariable Long id,
+                                        @RequestParam(defaultValue = "false")
+                                        @Parameter(description = "Удалить в фоне") boolean async,
+                                        @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
+            if (async) {
+                taskService.deleteTaskAsync(id, user);
+                return ResponseEntity.accepted().build();
+            }
             taskService.deleteTask(id, user);
             return ResponseEntity.noContent().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ServiceOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Ошибка удаления задачи: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка удаления задачи: " + e.getMessage());
         }
     }
 
+    /**
+     * Групповое удаление задач.
+     *
+     * @param ids         идентификаторы задач
+     * @param user        текущий пользователь
+     * @return количество удаленных задач и комментариев и ненайденные задачи
+     */
+    @Operation(
+            summary = "Групповое удаление задач",
+            description = "Удаляет задачи из списка вместе с комментариями в одной транзакции: комментарии всех задач " +
+                    "одним запросом, затем задачи одним запросом."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Результат удаления",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBulkDeleteResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный список идентификаторов"),
+            @ApiResponse(responseCode = "500", description = "Ошибка группового удаления задач")
+    })
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<?> deleteTasks(@RequestBody List<Long> ids, @CurrentUser @Parameter(hidden = true) User user) {
+        try {
+            return ResponseEntity.ok(taskBulkService.deleteTasks(ids, user));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            LOGGER.error("Ошибка группового удаления задач: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Ошибка группового удаления задач: " + e.getMessage());
+        }
+    }
+
     /**
      * Получает список задач, созданных текущим авторизованным пользователем.
      *
-     * @param userDetails данные текущего пользователя
+     * @param user        текущий пользователь
+     * @param include     "comments", чтобы вернуть задачи целиком с комментариями
+     * @param cursor      курсор страницы; если передан, страница выбирается по ключу без подсчета общего количества
+     * @param total       "none", чтобы вернуть срез без общего количества
+     * @param filter      фильтр по статусу и приоритету
      * @param pageable параметры пагинации
      * @return список задач, созданных пользователем
      */
-    @Operation(summary = "Получить задачи по автору", description = "Возвращает список задач, созданных текущим пользователем")
+    @Operation(summary = "Получить задачи по автору", description = "Возвращает краткий список задач, созданных текущим пользователем. С include=comments возвращает задачи целиком с комментариями, с cursor — страницу по курсору, с total=none — срез без общего количества. Фильтры: status, priority")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Успешный ответ со списком задач"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или недопустимое сочетание параметров"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера")
     })
     @GetMapping("/author")
-    public ResponseEntity<?> getTasksByAuthor(@AuthenticationPrincipal UserDetails userDetails, Pageable pageable) {
-        try {
-            User author = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            Page<TaskDTO> tasks = taskService.getTasksByAuthor(author, pageable);
-            return ResponseEntity.ok(tasks);
-        } catch (Exception e) {
-            LOGGER.error("Ошибка при выборе задач автором: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка при выборе задач автором: " + e.getMessage());
-        }
+    public ResponseEntity<?> getTasksByAuthor(@CurrentUser @Parameter(hidden = true) User user,
+                                              @RequestParam(required = false) @Parameter(description = "comments — включить комментарии") String include,
+                                              @RequestParam(required = false) @Parameter(description = "Курсор следующей страницы; пустое значение — первая страница по курсору") String cursor,
+                                              @RequestParam(required = false) @Parameter(description = "Общее количество: exact (по умолчанию), none — без общего количества") String total,
+                                              @ParameterObject TaskFilterDTO filter,
+                                              Pageable pageable) {
+        return listTasks(user, TaskListQuery.Scope.AUTHOR, include, cursor, total, filter, pageable);
     }
 
     /**
      * Получает список задач, назначенных текущему авторизованному пользователю.
      *
-     * @param userDetails данные текущего пользователя
+     * @param user        текущий пользователь
+     * @param include     "comments", чтобы вернуть задачи целиком с комментариями
+     * @param cursor      курсор страницы; если передан, страница выбирается по ключу без подсчета общего количества
+     * @param total       "none", чтобы вернуть срез без общего количества
+     * @param filter      фильтр по статусу и приоритету
      * @param pageable параметры пагинации
      * @return список задач, назначенных пользователю
      */
-    @Operation(summary = "Получить задачи по исполнителю", description = "Возвращает список задач, назначенных текущему пользователю")
+    @Operation(summary = "Получить задачи по исполнителю", description = "Возвращает краткий список задач, назначенных текущему пользователю. С include=comments возвращает задачи целиком с комментариями, с cursor — страницу по курсору, с total=none — срез без общего количества. Фильтры: status, priority")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Успешный ответ со списком задач"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или недопустимое сочетание параметров"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера")
     })
     @GetMapping("/assignee")
-    public ResponseEntity<?> getTasksByAssignee(@AuthenticationPrincipal UserDetails userDetails, Pageable pageable) {
-        try {
-            User assignee = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            Page<TaskDTO> tasks = taskService.getTasksByAssignee(assignee, pageable);
-            return ResponseEntity.ok(tasks);
-        } catch (Exception e) {
-            LOGGER.error("Ошибка при выборке задач назначенным лицом: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка при выборке задач назначенным лицом: " + e.getMessage());
-        }
+    public ResponseEntity<?> getTasksByAssignee(@CurrentUser @Parameter(hidden = true) User user,
+                                                @RequestParam(required = false) @Parameter(description = "comments — включить комментарии") String include,
+                                                @RequestParam(required = false) @Parameter(description = "Курсор следующей страницы; пустое значение — первая страница по курсору") String cursor,
+                                                @RequestParam(required = false) @Parameter(description = "Общее количество: exact (по умолчанию), none — без общего количества") String total,
+                                                @ParameterObject TaskFilterDTO filter,
+                                                Pageable pageable) {
+        return listTasks(user, TaskListQuery.Scope.ASSIGNEE, include, cursor, total, filter, pageable);
     }
 
     /**
      * Получение задач пользователя (автор или исполнитель).
      *
-     * @param userDetails данные аутентифицированного пользователя
+     * @param user        текущий пользователь
+     * @param include     "comments", чтобы вернуть задачи целиком с комментариями
+     * @param cursor      курсор страницы; если передан, страница выбирается по ключу без подсчета общего количества
+     * @param total       "none" — срез без общего количества, "approximate" — приблизительное количество для администратора
+     * @param filter      фильтр по статусу, приоритету, автору и исполнителю
      * @param pageable    параметры пагинации
      * @return список задач
      */
     @Operation(
             summary = "Получение задач пользователя",
-            description = "Получает список задач для указанного пользователя (автор или исполнитель)."
+            description = "Получает краткий список задач для указанного пользователя (автор или исполнитель). " +
+                    "С include=comments возвращает задачи целиком с комментариями, с cursor — страницу по курсору без подсчета общего количества, " +
+                    "с total=none — срез без общего количества, с total=approximate — общее количество из статистики базы для администратора. " +
+                    "Фильтры status, priority, authorId и assigneeId можно комбинировать."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список задач успешно получен",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskDTO.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или недопустимое сочетание параметров"),
             @ApiResponse(responseCode = "500", description = "Ошибка получения списка задач",
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping
-    public ResponseEntity<?> getTasksByAuthorOrAssignee(@AuthenticationPrincipal @Parameter(description = "Аутентифицированный пользователь") UserDetails userDetails,
+    public ResponseEntity<?> getTasksByAuthorOrAssignee(@CurrentUser @Parameter(hidden = true) User user,
+                                                        @RequestParam(required = false) @Parameter(description = "comments — включить комментарии") String include,
+                                                        @RequestParam(required = false) @Parameter(description = "Курсор следующей страницы; пустое значение — первая страница по курсору") String cursor,
+                                                        @RequestParam(required = false) @Parameter(description = "Общее количество: exact (по умолчанию), none — без общего количества, approximate — оценка для администратора") String total,
+                                                        @ParameterObject TaskFilterDTO filter,
                                                         Pageable pageable) {
+        return listTasks(user, TaskListQuery.Scope.VISIBLE, include, cursor, total, filter, pageable);
+    }
+
+    /**
+     * Полнотекстовый поиск задач по заголовку и описанию.
+     *
+     * @param q           поисковый запрос
+     * @param user        текущий пользователь
+     * @param pageable    номер и размер страницы
+     * @return срез найденных задач в порядке релевантности
+     */
+    @Operation(
+            summary = "Поиск задач",
+            description = "Ищет задачи по заголовку и описанию с учетом словоформ. Результаты упорядочены по релевантности. " +
+                    "Поддерживаются кавычки для фраз, OR и минус для исключения слов. " +
+                    "Администратор ищет по всем задачам, остальные пользователи — по задачам, где они автор или исполнитель. " +
+                    "Ранжируется ограниченное число самых новых совпадений (app.taskSearchMaxCandidates). Доступен только на PostgreSQL."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Найденные задачи"),
+            @ApiResponse(responseCode = "400", description = "Пустой поисковый запрос"),
+            @ApiResponse(responseCode = "500", description = "Ошибка поиска задач"),
+            @ApiResponse(responseCode = "501", description = "Поиск недоступен: база данных не PostgreSQL")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTasks(@RequestParam @Parameter(description = "Поисковый запрос") String q,
+                                         @CurrentUser @Parameter(hidden = true) User user,
+                                         Pageable pageable) {
+        try {
+            Slice<TaskSummaryDTO> tasks = taskService.searchTasks(q, user, pageable);
+            return ResponseEntity.ok(new SliceDTO<>(tasks));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnsupportedDatabaseException e) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(e.getMessage());
+        } catch (Exception e) {
+            LOGGER.error("Ошибка поиска задач: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка поиска задач: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Потоковая выгрузка задач в NDJSON или CSV.
+     * Задачи пишутся в ответ по мере чтения курсором, поэтому память не зависит от их количества.
+     *
+     * @param format      формат выгрузки: ndjson или csv
+     * @param user        текущий пользователь
+     * @return поток строк выгрузки
+     */
+    @Operation(
+            summary = "Выгрузка задач",
+            description = "Выгружает задачи потоком в формате NDJSON (по умолчанию) или CSV в порядке идентификаторов. " +
+                    "Администратор выгружает все задачи, остальные пользователи — задачи, где они автор или исполнитель."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток выгружаемых задач"),
+            @ApiResponse(responseCode = "400", description = "Неподдерживаемый формат выгрузки")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = EXPORT_NDJSON)
+                                                             @Parameter(description = "Формат выгрузки: ndjson или csv") String format,
+                                                             @CurrentUser @Parameter(hidden = true) User user) {
+        if (format.equalsIgnoreCase(EXPORT_NDJSON)) {
+            StreamingResponseBody body = out -> taskExportService.exportAsNdjson(user, out);
+            return exportResponse(MediaType.APPLICATION_NDJSON, "tasks.ndjson", body);
+        }
+        if (format.equalsIgnoreCase(EXPORT_CSV)) {
+            StreamingResponseBody body = out -> taskExportService.exportAsCsv(user, out);
+            return exportResponse(new MediaType("text", "csv", StandardCharsets.UTF_8), "tasks.csv", body);
+        }
+        byte[] message = ("Неподдерживаемый формат выгрузки: " + format).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.badRequest()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(out -> out.write(message));
+    }
+
+    /**
+     * Массовый импорт задач из NDJSON или CSV.
+     * Тело запроса читается потоком, поэтому размер файла не ограничен памятью.
+     *
+     * @param format      формат тела запроса: ndjson или csv
+     * @param body        тело запроса
+     * @param user        текущий пользователь
+     * @return отчет об импорте с ошибками по строкам и скоростью загрузки
+     */
+    @Operation(
+            summary = "Импорт задач",
+            description = "Загружает задачи из NDJSON (по умолчанию) или CSV с заголовком. Поля строки: title, description, " +
+                    "status, priority, assigneeId и необязательный authorId (по умолчанию — текущий пользователь). " +
+                    "Некорректные строки пропускаются и попадают в отчет, остальные загружаются пачками. " +
+                    "Каждая пачка фиксируется отдельно: при прерывании импорта загруженные пачки остаются, " +
+                    "а отчет содержит их количество и первую незагруженную строку (failure). Доступен только на PostgreSQL."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Отчет об импорте",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskImportReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Неподдерживаемый формат или некорректный заголовок CSV"),
+            @ApiResponse(responseCode = "500", description = "Импорт прерван; отчет о загруженной части",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskImportReportDTO.class))),
+            @ApiResponse(responseCode = "501", description = "Импорт недоступен: база данных не PostgreSQL")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<?> importTasks(@RequestParam(defaultValue = EXPORT_NDJSON)
+                                         @Parameter(description = "Формат тела запроса: ndjson или csv") String format,
+                                         @Parameter(hidden = true) InputStream body,
+                                         @CurrentUser @Parameter(hidden = true) User user) {
+        try {
+            if (format.equalsIgnoreCase(EXPORT_NDJSON)) {
+                return ResponseEntity.ok(taskImportService.importNdjson(body, user));
+            }
+            if (format.equalsIgnoreCase(EXPORT_CSV)) {
+                return ResponseEntity.ok(taskImportService.importCsv(body, user));
+            }
+            return ResponseEntity.badRequest().body("Неподдерживаемый формат импорта: " + format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (TaskImportAbortedException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getReport());
+        } catch (UnsupportedDatabaseException e) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(e.getMessage());
+        } catch (Exception e) {
+            LOGGER.error("Ошибка импорта задач: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка импорта задач: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Групповое изменение статуса, приоритета или исполнителя задач.
+     *
+     * @param request     идентификаторы или фильтр и новые значения
+     * @param user        текущий пользователь
+     * @return количество измененных задач и исход по каждой задаче
+     */
+    @Operation(
+            summary = "Групповое изменение задач",
+            description = "Меняет статус, приоритет и (или) исполнителя задач из списка ids или удовлетворяющих filter " +
+                    "одним запросом в одной транзакции. Пользователь меняет только задачи, где он автор или исполнитель, " +
+                    "исполнителя меняет только администратор. Для каждого идентификатора возвращается исход: " +
+                    "UPDATED, NOT_FOUND или FORBIDDEN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Исходы по задачам",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBulkUpdateResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный запрос"),
+            @ApiResponse(responseCode = "403", description = "Исполнителя меняет не администратор"),
+            @ApiResponse(responseCode = "404", description = "Исполнитель не найден"),
+            @ApiResponse(responseCode = "409", description = "Задачи одновременно изменяются другими запросами"),
+            @ApiResponse(responseCode = "500", description = "Ошибка группового изменения задач")
+    })
+    @PatchMapping("/bulk")
+    public ResponseEntity<?> updateTasks(@RequestBody TaskBulkUpdateDTO request,
+                                         @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            Page<TaskDTO> tasks = taskService.getTasksByAuthorOrAssignee(user, user, pageable);
-            return ResponseEntity.ok(tasks);
+            return ResponseEntity.ok(taskBulkService.updateTasks(request, user));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
-            LOGGER.error("Ошибка при выборке задач автором или исполнителем: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка при выборке задач автором или исполнителем: " + e.getMessage());
+            LOGGER.error("Ошибка группового изменения задач: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Ошибка группового изменения задач: " + e.getMessage());
         }
     }
 
@@ -248,19 +526,27 @@ public class TaskController {
      *
      * @param id          идентификатор задачи
      * @param assigneeId  идентификатор пользователя, которому назначается задача
-     * @param userDetails данные аутентифицированного пользователя
+     * @param ifMatch     ETag задачи, которую изменяет клиент
+     * @param user        текущий пользователь
      * @return обновленная информация о задаче
      */
     @PatchMapping("/{id}/assign")
-    @Operation(summary = "Назначение задачи", description = "Назначает задачу указанному пользователю")
+    @Operation(summary = "Назначение задачи", description = "Назначает задачу указанному пользователю. Если задача или пользователь не найдены, возвращается 404. При конфликте с другим запросом изменение повторяется; если повторы не помогли, возвращается 409")
     public ResponseEntity<?> assignTask(
             @PathVariable @Parameter(description = "ID задачи") Long id,
             @RequestParam @Parameter(description = "ID пользователя, которому назначается задача") Long assigneeId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag задачи; при несовпадении версии возвращается 412") String ifMatch,
+            @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            TaskDTO taskDTO = taskService.assignTask(id, assigneeId, user);
-            return ResponseEntity.ok(taskDTO);
+            TaskDTO taskDTO = taskService.assignTask(id, assigneeId, user, ETags.expectedTaskVersion(ifMatch, id));
+            return withETag(taskDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Ошибка при назначении задачи: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -273,19 +559,27 @@ public class TaskController {
      *
      * @param id          идентификатор задачи
      * @param status      новый статус задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param ifMatch     ETag задачи, которую изменяет клиент
+     * @param user        текущий пользователь
      * @return обновленная информация о задаче
      */
     @PatchMapping("/{id}/status")
-    @Operation(summary = "Обновление статуса задачи", description = "Обновляет статус указанной задачи")
+    @Operation(summary = "Обновление статуса задачи", description = "Обновляет статус указанной задачи. Если задача не найдена, возвращается 404. При конфликте с другим запросом изменение повторяется; если повторы не помогли, возвращается 409")
     public ResponseEntity<?> updateTaskStatus(
             @PathVariable @Parameter(description = "ID задачи") Long id,
             @RequestParam @Parameter(description = "Новый статус задачи") TaskStatus status,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag задачи; при несовпадении версии возвращается 412") String ifMatch,
+            @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            TaskDTO taskDTO = taskService.updateTaskStatus(id, status, user);
-            return ResponseEntity.ok(taskDTO);
+            TaskDTO taskDTO = taskService.updateTaskStatus(id, status, user, ETags.expectedTaskVersion(ifMatch, id));
+            return withETag(taskDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Ошибка при обновлении статуса задачи: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -298,23 +592,62 @@ public class TaskController {
      *
      * @param id          идентификатор задачи
      * @param priority    новый приоритет задачи
-     * @param userDetails данные аутентифицированного пользователя
+     * @param ifMatch     ETag задачи, которую изменяет клиент
+     * @param user        текущий пользователь
      * @return обновленная информация о задаче
      */
     @PatchMapping("/{id}/priority")
-    @Operation(summary = "Обновление приоритета задачи", description = "Обновляет приоритет указанной задачи")
+    @Operation(summary = "Обновление приоритета задачи", description = "Обновляет приоритет указанной задачи. Если задача не найдена, возвращается 404. При конфликте с другим запросом изменение повторяется; если повторы не помогли, возвращается 409")
     public ResponseEntity<?> updateTaskPriority(
             @PathVariable @Parameter(description = "ID задачи") Long id,
             @RequestParam @Parameter(description = "Новый приоритет задачи") TaskPriority priority,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag задачи; при несовпадении версии возвращается 412") String ifMatch,
+            @CurrentUser @Parameter(hidden = true) User user) {
         try {
-            User user = userDetailsServiceImpl.findUserFromPrincipal(userDetails);
-            TaskDTO taskDTO = taskService.updateTaskPriority(id, priority, user);
-            return ResponseEntity.ok(taskDTO);
+            TaskDTO taskDTO = taskService.updateTaskPriority(id, priority, user, ETags.expectedTaskVersion(ifMatch, id));
+            return withETag(taskDTO);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Ошибка при обновлении приоритета задачи: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Ошибка при обновлении приоритета задачи: " + e.getMessage());
         }
     }
+
+    /**
+     * Возвращает измененную задачу с ее новым ETag.
+     */
+    private static ResponseEntity<TaskDTO> withETag(TaskDTO taskDTO) {
+        return ResponseEntity.ok().eTag(ETags.forTask(taskDTO.getId(), taskDTO.getVersion())).body(taskDTO);
+    }
+
+    /**
+     * Выбирает список задач по параметрам запроса; неизвестные значения и неподдерживаемые сочетания параметров — 400.
+     */
+    private ResponseEntity<?> listTasks(User user, TaskListQuery.Scope scope, String include, String cursor, String total,
+                                        TaskFilterDTO filter, Pageable pageable) {
+        try {
+            TaskListQuery query = TaskListQuery.of(scope, include, cursor, total, filter);
+            return ResponseEntity.ok(taskService.listTasks(user, query, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            LOGGER.error("Ошибка при выборе списка задач: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ошибка при выборе списка задач: " + e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> exportResponse(MediaType mediaType, String fileName,
+                                                                        StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
 }
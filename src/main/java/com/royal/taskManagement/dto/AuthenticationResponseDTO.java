@@ -14,6 +14,12 @@ public class AuthenticationResponseDTO {
     @Schema(description = "JSON Web Token пользователя, предоставляемый после успешной аутентификации", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
     private String jwt;
 
+    /**
+     * Refresh-токен для получения новой пары токенов после истечения срока действия JWT.
+     */
+    @Schema(description = "Refresh-токен, который обменивается на новую пару токенов через /refresh", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+    private String refreshToken;
+
     /**
      * Конструктор для создания объекта с JWT.
      *
@@ -23,6 +29,17 @@ public class AuthenticationResponseDTO {
         this.jwt = jwt;
     }
 
+    /**
+     * Конструктор для создания объекта с JWT и refresh-токеном.
+     *
+     * @param jwt          JSON Web Token, который будет предоставлен пользователю.
+     * @param refreshToken refresh-токен пользователя.
+     */
+    public AuthenticationResponseDTO(String jwt, String refreshToken) {
+        this.jwt = jwt;
+        this.refreshToken = refreshToken;
+    }
+
     /**
      * Геттеры и сеттеры
      */
@@ -34,4 +51,14 @@ public class AuthenticationResponseDTO {
     public void setJwt(String jwt) {
         this.jwt = jwt;
     }
+
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
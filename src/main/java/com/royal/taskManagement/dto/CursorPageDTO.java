@@ -0,0 +1,85 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи страницы, выбранной по курсору.
+ * Общее количество элементов не вычисляется; для следующей страницы клиент передает {@code nextCursor}.
+ *
+ * @param <T> тип элементов страницы.
+ */
+@Schema(description = "Страница, выбранная по курсору: элементы, курсор следующей страницы и признак ее наличия.")
+public final class CursorPageDTO<T> implements TaskListResponse<T> {
+
+    /**
+     * Элементы страницы.
+     */
+    @Schema(description = "Элементы страницы")
+    private List<T> content;
+
+    /**
+     * Курсор следующей страницы.
+     */
+    @Schema(description = "Курсор следующей страницы или null, если страница последняя", example = "djE6aWQ6QVNDOjIwOg")
+    private String nextCursor;
+
+    /**
+     * Признак наличия следующей страницы.
+     */
+    @Schema(description = "Есть ли следующая страница", example = "true")
+    private boolean hasNext;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public CursorPageDTO() {
+    }
+
+    /**
+     * Конструктор со всеми полями.
+     *
+     * @param content    элементы страницы.
+     * @param nextCursor курсор следующей страницы или null.
+     * @param hasNext    есть ли следующая страница.
+     */
+    public CursorPageDTO(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,26 @@
+package com.royal.taskManagement.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи страницы с общим количеством элементов.
+ * Сериализуется так же, как {@link PageImpl}.
+ *
+ * @param <T> тип элементов страницы.
+ */
+public final class PageDTO<T> extends PageImpl<T> implements TaskListResponse<T> {
+
+    /**
+     * Конструктор со всеми полями.
+     *
+     * @param content  элементы страницы.
+     * @param pageable номер, размер страницы и сортировка.
+     * @param total    общее количество элементов, точное или приблизительное.
+     */
+    public PageDTO(List<T> content, Pageable pageable, long total) {
+        super(content, pageable, total);
+    }
+}
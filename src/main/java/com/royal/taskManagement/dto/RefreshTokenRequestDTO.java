@@ -0,0 +1,28 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Этот класс содержит refresh-токен для получения новой пары токенов или выхода из системы.
+ */
+@Schema(description = "Объект с refresh-токеном.")
+public class RefreshTokenRequestDTO {
+
+    /**
+     * Refresh-токен, выданный при аутентификации.
+     */
+    @Schema(description = "Refresh-токен пользователя", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+    private String refreshToken;
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,101 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи страницы без общего количества элементов.
+ * Вместо общего количества возвращается признак наличия следующей страницы.
+ *
+ * @param <T> тип элементов страницы.
+ */
+@Schema(description = "Страница без общего количества: элементы, номер и размер страницы, признак наличия следующей страницы.")
+public final class SliceDTO<T> implements TaskListResponse<T> {
+
+    /**
+     * Элементы страницы.
+     */
+    @Schema(description = "Элементы страницы")
+    private List<T> content;
+
+    /**
+     * Номер страницы.
+     */
+    @Schema(description = "Номер страницы, начиная с 0", example = "0")
+    private int page;
+
+    /**
+     * Размер страницы.
+     */
+    @Schema(description = "Запрошенный размер страницы", example = "20")
+    private int size;
+
+    /**
+     * Признак наличия следующей страницы.
+     */
+    @Schema(description = "Есть ли следующая страница", example = "true")
+    private boolean hasNext;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public SliceDTO() {
+    }
+
+    /**
+     * Конструктор из среза Spring Data.
+     *
+     * @param slice срез с элементами страницы.
+     */
+    public SliceDTO(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+
+    public int getPage() {
+        return page;
+    }
+
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+
+    public int getSize() {
+        return size;
+    }
+
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
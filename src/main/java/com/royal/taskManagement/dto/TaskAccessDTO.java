@@ -0,0 +1,58 @@
+package com.royal.taskManagement.dto;
+
+/**
+ * Этот класс используется для проверки ETag и прав доступа к задаче без загрузки самой задачи:
+ * содержит только версию задачи, ее автора и исполнителя.
+ */
+public class TaskAccessDTO {
+
+    /**
+     * Версия задачи.
+     */
+    private final Long version;
+
+    /**
+     * Идентификатор автора задачи.
+     */
+    private final Long authorId;
+
+    /**
+     * Идентификатор исполнителя задачи или null, если исполнитель не назначен.
+     */
+    private final Long assigneeId;
+
+    /**
+     * Конструктор для выборки в запросе JPQL.
+     *
+     * @param version    версия задачи.
+     * @param authorId   идентификатор автора задачи.
+     * @param assigneeId идентификатор исполнителя задачи или null.
+     */
+    public TaskAccessDTO(Long version, Long authorId, Long assigneeId) {
+        this.version = version;
+        this.authorId = authorId;
+        this.assigneeId = assigneeId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    /**
+     * Проверяет, является ли пользователь автором или исполнителем задачи.
+     *
+     * @param userId идентификатор пользователя.
+     * @return true, если пользователь автор или исполнитель.
+     */
+    public boolean isParticipant(Long userId) {
+        return userId.equals(authorId) || userId.equals(assigneeId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи результата группового удаления задач.
+ */
+@Schema(description = "Результат группового удаления задач: количество удаленных задач и комментариев, ненайденные задачи.")
+public class TaskBulkDeleteResultDTO {
+
+    /**
+     * Количество удаленных задач.
+     */
+    @Schema(description = "Количество удаленных задач", example = "250")
+    private long deleted;
+
+    /**
+     * Количество удаленных комментариев.
+     */
+    @Schema(description = "Количество удаленных комментариев", example = "12000")
+    private long deletedComments;
+
+    /**
+     * Идентификаторы задач, которые не найдены.
+     */
+    @Schema(description = "Идентификаторы задач, которые не найдены", example = "[77]")
+    private List<Long> notFound = new ArrayList<>();
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskBulkDeleteResultDTO() {
+    }
+
+    /**
+     * Конструктор со всеми полями.
+     *
+     * @param deleted         количество удаленных задач.
+     * @param deletedComments количество удаленных комментариев.
+     * @param notFound        идентификаторы ненайденных задач.
+     */
+    public TaskBulkDeleteResultDTO(long deleted, long deletedComments, List<Long> notFound) {
+        this.deleted = deleted;
+        this.deletedComments = deletedComments;
+        this.notFound = notFound;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(long deleted) {
+        this.deleted = deleted;
+    }
+
+    public long getDeletedComments() {
+        return deletedComments;
+    }
+
+    public void setDeletedComments(long deletedComments) {
+        this.deletedComments = deletedComments;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<Long> notFound) {
+        this.notFound = notFound;
+    }
+}
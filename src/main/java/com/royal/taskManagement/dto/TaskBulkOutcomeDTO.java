@@ -0,0 +1,92 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Этот класс используется для передачи результата группового изменения одной задачи.
+ */
+@Schema(description = "Результат группового изменения задачи: идентификатор, исход и новая версия.")
+public class TaskBulkOutcomeDTO {
+
+    /**
+     * Исход изменения задачи.
+     */
+    public enum Outcome {
+        /**
+         * Задача изменена.
+         */
+        UPDATED,
+        /**
+         * Задача не найдена.
+         */
+        NOT_FOUND,
+        /**
+         * Пользователь не имеет права изменять задачу.
+         */
+        FORBIDDEN
+    }
+
+    /**
+     * Идентификатор задачи.
+     */
+    @Schema(description = "Идентификатор задачи", example = "1")
+    private Long id;
+
+    /**
+     * Исход изменения задачи.
+     */
+    @Schema(description = "Исход изменения задачи", example = "UPDATED")
+    private Outcome outcome;
+
+    /**
+     * Версия задачи после изменения; только для измененных задач.
+     */
+    @Schema(description = "Версия задачи после изменения; только для измененных задач", example = "4")
+    private Long version;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskBulkOutcomeDTO() {
+    }
+
+    /**
+     * Конструктор со всеми полями.
+     *
+     * @param id      идентификатор задачи.
+     * @param outcome исход изменения.
+     * @param version версия задачи после изменения или null.
+     */
+    public TaskBulkOutcomeDTO(Long id, Outcome outcome, Long version) {
+        this.id = id;
+        this.outcome = outcome;
+        this.version = version;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,103 @@
+package com.royal.taskManagement.dto;
+
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи группового изменения задач: какие задачи изменить
+ * (список идентификаторов или фильтр) и новые значения статуса, приоритета или исполнителя.
+ */
+@Schema(description = "Групповое изменение задач: идентификаторы или фильтр и новые статус, приоритет или исполнитель.")
+public class TaskBulkUpdateDTO {
+
+    /**
+     * Идентификаторы изменяемых задач.
+     */
+    @Schema(description = "Идентификаторы задач; задаются вместо фильтра", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    /**
+     * Условия отбора изменяемых задач.
+     */
+    @Schema(description = "Условия отбора задач; задаются вместо идентификаторов")
+    private TaskFilterDTO filter;
+
+    /**
+     * Новый статус задач.
+     */
+    @Schema(description = "Новый статус задач", example = "COMPLETED")
+    private TaskStatus status;
+
+    /**
+     * Новый приоритет задач.
+     */
+    @Schema(description = "Новый приоритет задач", example = "LOW")
+    private TaskPriority priority;
+
+    /**
+     * Идентификатор нового исполнителя задач.
+     */
+    @Schema(description = "Идентификатор нового исполнителя задач; менять исполнителя может только администратор", example = "456")
+    private Long assigneeId;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskBulkUpdateDTO() {
+    }
+
+    /**
+     * Проверяет, что задано хотя бы одно новое значение.
+     *
+     * @return true, если изменять нечего.
+     */
+    public boolean hasNoChanges() {
+        return status == null && priority == null && assigneeId == null;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public TaskFilterDTO getFilter() {
+        return filter;
+    }
+
+    public void setFilter(TaskFilterDTO filter) {
+        this.filter = filter;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+}
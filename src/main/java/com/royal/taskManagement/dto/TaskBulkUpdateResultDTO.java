@@ -0,0 +1,62 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи результата группового изменения задач.
+ */
+@Schema(description = "Результат группового изменения задач: количество измененных задач и исход по каждой задаче.")
+public class TaskBulkUpdateResultDTO {
+
+    /**
+     * Количество измененных задач.
+     */
+    @Schema(description = "Количество измененных задач", example = "250")
+    private long updated;
+
+    /**
+     * Исходы по задачам. При изменении по фильтру перечисляются только измененные задачи.
+     */
+    @Schema(description = "Исходы по задачам; при изменении по фильтру — только измененные задачи")
+    private List<TaskBulkOutcomeDTO> results = new ArrayList<>();
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskBulkUpdateResultDTO() {
+    }
+
+    /**
+     * Конструктор по списку исходов.
+     *
+     * @param results исходы по задачам.
+     */
+    public TaskBulkUpdateResultDTO(List<TaskBulkOutcomeDTO> results) {
+        this.results = results;
+        this.updated = results.stream()
+                .filter(result -> result.getOutcome() == TaskBulkOutcomeDTO.Outcome.UPDATED)
+                .count();
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public List<TaskBulkOutcomeDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<TaskBulkOutcomeDTO> results) {
+        this.results = results;
+    }
+}
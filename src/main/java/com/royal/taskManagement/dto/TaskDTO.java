@@ -1,5 +1,6 @@
 package com.royal.taskManagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.royal.taskManagement.entity.enums.TaskPriority;
 import com.royal.taskManagement.entity.enums.TaskStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -67,10 +68,18 @@ public class TaskDTO {
 
     /**
      * Список комментариев, привязанных к задаче.
+     * Не заполняется в ответах на точечные изменения статуса, приоритета и исполнителя.
      */
-    @Schema(description = "Список комментариев, привязанных к задаче")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Список комментариев, привязанных к задаче; отсутствует в ответах на изменение статуса, приоритета и исполнителя")
     private List<CommentDTO> comments;
 
+    /**
+     * Версия задачи, из которой формируется ETag.
+     */
+    @Schema(description = "Версия задачи", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     /**
      * Конструктор без параметров.
      * Используется для создания пустого объекта DTO.
@@ -146,4 +155,12 @@ public class TaskDTO {
     public void setComments(List<CommentDTO> comments) {
         this.comments = comments;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,162 @@
+package com.royal.taskManagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Этот класс используется для выгрузки задач: одна строка NDJSON или CSV на задачу.
+ * Содержит описание, но не содержит комментариев, чтобы выгрузка читалась одним курсором.
+ */
+@JsonPropertyOrder({"id", "title", "description", "status", "priority", "authorId", "assigneeId"})
+@Schema(description = "Строка выгрузки задач: заголовок, описание, статус, приоритет, автор и исполнитель.")
+public class TaskExportDTO {
+
+    /**
+     * Заголовок CSV в порядке полей.
+     */
+    public static final String CSV_HEADER = "id,title,description,status,priority,authorId,assigneeId";
+
+    /**
+     * Идентификатор задачи.
+     */
+    @Schema(description = "Идентификатор задачи", example = "1")
+    private Long id;
+
+    /**
+     * Заголовок задачи.
+     */
+    @Schema(description = "Заголовок задачи", example = "Создание новой задачи")
+    private String title;
+
+    /**
+     * Описание задачи.
+     */
+    @Schema(description = "Описание задачи", example = "Разработать REST API с возможностью управления задачами.")
+    private String description;
+
+    /**
+     * Статус задачи.
+     */
+    @Schema(description = "Статус задачи", example = "IN_PROGRESS")
+    private TaskStatus status;
+
+    /**
+     * Приоритет задачи.
+     */
+    @Schema(description = "Приоритет задачи", example = "HIGH")
+    private TaskPriority priority;
+
+    /**
+     * Идентификатор автора задачи.
+     */
+    @Schema(description = "Идентификатор автора задачи", example = "123")
+    private Long authorId;
+
+    /**
+     * Идентификатор исполнителя задачи.
+     */
+    @Schema(description = "Идентификатор исполнителя задачи", example = "456")
+    private Long assigneeId;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskExportDTO() {
+    }
+
+    /**
+     * Конструктор со всеми полями. Используется в JPQL-проекциях.
+     *
+     * @param id          идентификатор задачи.
+     * @param title       заголовок задачи.
+     * @param description описание задачи.
+     * @param status      статус задачи.
+     * @param priority    приоритет задачи.
+     * @param authorId    идентификатор автора.
+     * @param assigneeId  идентификатор исполнителя или null.
+     */
+    public TaskExportDTO(Long id, String title, String description, TaskStatus status, TaskPriority priority,
+                         Long authorId, Long assigneeId) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.authorId = authorId;
+        this.assigneeId = assigneeId;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public Long getId() {
+        return id;
+    }
+
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+
+    public String getTitle() {
+        return title;
+    }
+
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+
+    public String getDescription() {
+        return description;
+    }
+
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+}
@@ -0,0 +1,94 @@
+package com.royal.taskManagement.dto;
+
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Этот класс используется для передачи условий отбора задач в списках.
+ * Незаданные условия не ограничивают выборку.
+ */
+@Schema(description = "Условия отбора задач: статус, приоритет, исполнитель и автор.")
+public class TaskFilterDTO {
+
+    /**
+     * Статус задачи.
+     */
+    @Schema(description = "Статус задачи", example = "IN_PROGRESS")
+    private TaskStatus status;
+
+    /**
+     * Приоритет задачи.
+     */
+    @Schema(description = "Приоритет задачи", example = "HIGH")
+    private TaskPriority priority;
+
+    /**
+     * Идентификатор исполнителя задачи.
+     */
+    @Schema(description = "Идентификатор исполнителя задачи", example = "456")
+    private Long assigneeId;
+
+    /**
+     * Идентификатор автора задачи.
+     */
+    @Schema(description = "Идентификатор автора задачи", example = "123")
+    private Long authorId;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskFilterDTO() {
+    }
+
+    /**
+     * Проверяет, что не задано ни одного условия.
+     *
+     * @return true, если фильтр пустой.
+     */
+    public boolean isEmpty() {
+        return status == null && priority == null && assigneeId == null && authorId == null;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+}
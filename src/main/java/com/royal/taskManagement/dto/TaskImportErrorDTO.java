@@ -0,0 +1,61 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Этот класс используется для передачи ошибки импорта одной строки.
+ */
+@Schema(description = "Ошибка импорта строки: номер строки и причина.")
+public class TaskImportErrorDTO {
+
+    /**
+     * Номер строки во входных данных, начиная с 1 (без заголовка CSV).
+     */
+    @Schema(description = "Номер строки, начиная с 1", example = "42")
+    private long row;
+
+    /**
+     * Причина, по которой строка не импортирована.
+     */
+    @Schema(description = "Причина ошибки", example = "Исполнитель не найден: 456")
+    private String message;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskImportErrorDTO() {
+    }
+
+    /**
+     * Конструктор со всеми полями.
+     *
+     * @param row     номер строки.
+     * @param message причина ошибки.
+     */
+    public TaskImportErrorDTO(long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public long getRow() {
+        return row;
+    }
+
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+
+    public String getMessage() {
+        return message;
+    }
+
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,135 @@
+package com.royal.taskManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Этот класс используется для передачи отчета об импорте задач:
+ * количество загруженных и отклоненных строк, скорость загрузки и ошибки по строкам.
+ * Если импорт прерван, отчет описывает загруженную часть и строку, на которой импорт остановился.
+ */
+@Schema(description = "Отчет об импорте задач: загружено, отклонено, скорость и ошибки по строкам.")
+public class TaskImportReportDTO {
+
+    /**
+     * Количество загруженных задач.
+     */
+    @Schema(description = "Количество загруженных задач", example = "999000")
+    private long imported;
+
+    /**
+     * Количество отклоненных строк.
+     */
+    @Schema(description = "Количество отклоненных строк", example = "1000")
+    private long rejected;
+
+    /**
+     * Время импорта в миллисекундах.
+     */
+    @Schema(description = "Время импорта в миллисекундах", example = "20000")
+    private long elapsedMillis;
+
+    /**
+     * Скорость загрузки в строках в секунду.
+     */
+    @Schema(description = "Скорость загрузки, строк в секунду", example = "49950.0")
+    private double rowsPerSecond;
+
+    /**
+     * Ошибки по строкам; ограничены по количеству.
+     */
+    @Schema(description = "Ошибки по строкам, не больше app.taskImportMaxErrors")
+    private List<TaskImportErrorDTO> errors = new ArrayList<>();
+
+    /**
+     * Признак того, что ошибок больше, чем возвращено.
+     */
+    @Schema(description = "Есть ли ошибки сверх возвращенных", example = "false")
+    private boolean errorsTruncated;
+
+    /**
+     * Причина прерывания импорта и первая незагруженная строка; null, если импорт завершен.
+     */
+    @Schema(description = "Первая незагруженная строка и причина прерывания импорта или null, если импорт завершен")
+    private TaskImportErrorDTO failure;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskImportReportDTO() {
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public long getImported() {
+        return imported;
+    }
+
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+
+    public long getRejected() {
+        return rejected;
+    }
+
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+
+    public List<TaskImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+
+    public void setErrors(List<TaskImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+
+    public TaskImportErrorDTO getFailure() {
+        return failure;
+    }
+
+
+    public void setFailure(TaskImportErrorDTO failure) {
+        this.failure = failure;
+    }
+}
@@ -0,0 +1,16 @@
+package com.royal.taskManagement.dto;
+
+import java.util.List;
+
+/**
+ * Ответ со списком задач: страница с общим количеством, срез без общего количества или страница по курсору.
+ *
+ * @param <T> тип элементов: {@link TaskSummaryDTO} или {@link TaskDTO}.
+ */
+public sealed interface TaskListResponse<T> permits PageDTO, SliceDTO, CursorPageDTO {
+
+    /**
+     * Элементы страницы.
+     */
+    List<T> getContent();
+}
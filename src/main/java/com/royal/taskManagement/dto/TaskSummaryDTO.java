@@ -0,0 +1,155 @@
+package com.royal.taskManagement.dto;
+
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Этот класс используется для передачи краткой информации о задаче в списках:
+ * без описания и комментариев, но с количеством комментариев.
+ */
+@Schema(description = "Краткое DTO задачи для списков: заголовок, статус, приоритет, автор, исполнитель и число комментариев.")
+public class TaskSummaryDTO {
+
+    /**
+     * Идентификатор задачи.
+     */
+    @Schema(description = "Идентификатор задачи", example = "1")
+    private Long id;
+
+    /**
+     * Заголовок задачи.
+     */
+    @Schema(description = "Заголовок задачи", example = "Создание новой задачи")
+    private String title;
+
+    /**
+     * Статус задачи.
+     */
+    @Schema(description = "Статус задачи", example = "IN_PROGRESS")
+    private TaskStatus status;
+
+    /**
+     * Приоритет задачи.
+     */
+    @Schema(description = "Приоритет задачи", example = "HIGH")
+    private TaskPriority priority;
+
+    /**
+     * Идентификатор автора задачи.
+     */
+    @Schema(description = "Идентификатор автора задачи", example = "123")
+    private Long authorId;
+
+    /**
+     * Идентификатор исполнителя задачи.
+     */
+    @Schema(description = "Идентификатор исполнителя задачи", example = "456")
+    private Long assigneeId;
+
+    /**
+     * Количество комментариев к задаче.
+     */
+    @Schema(description = "Количество комментариев к задаче", example = "3")
+    private long commentCount;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public TaskSummaryDTO() {
+    }
+
+    /**
+     * Конструктор со всеми полями. Используется в JPQL-проекциях.
+     *
+     * @param id           идентификатор задачи.
+     * @param title        заголовок задачи.
+     * @param status       статус задачи.
+     * @param priority     приоритет задачи.
+     * @param authorId     идентификатор автора.
+     * @param assigneeId   идентификатор исполнителя или null.
+     * @param commentCount количество комментариев.
+     */
+    public TaskSummaryDTO(Long id, String title, TaskStatus status, TaskPriority priority,
+                          Long authorId, Long assigneeId, long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.authorId = authorId;
+        this.assigneeId = assigneeId;
+        this.commentCount = commentCount;
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public Long getId() {
+        return id;
+    }
+
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+
+    public String getTitle() {
+        return title;
+    }
+
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+}
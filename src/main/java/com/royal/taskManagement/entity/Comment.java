@@ -16,7 +16,8 @@ public class Comment {
      * Идентификатор комментария.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     @Schema(description = "Уникальный идентификатор комментария", example = "1")
     private Long id;
 
@@ -45,6 +46,13 @@ public class Comment {
     @Schema(description = "Пользователь, оставивший комментарий (сущность User).")
     private User author;
 
+    /**
+     * Версия комментария для оптимистической блокировки.
+     */
+    @Version
+    @Schema(description = "Версия комментария.", example = "0")
+    private Long version;
+
     /**
      * Конструктор без параметров.
      * Используется для создания пустого объекта комментария.
@@ -93,4 +101,14 @@ public class Comment {
     public void setAuthor(User author) {
         this.author = author;
     }
+
+
+    public Long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
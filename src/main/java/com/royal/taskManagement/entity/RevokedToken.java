@@ -0,0 +1,91 @@
+package com.royal.taskManagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Сущность для представления отозванного JWT токена.
+ * Хранится до истечения срока действия токена, после чего удаляется.
+ */
+@Entity
+@Table(name = "revoked_token")
+public class RevokedToken {
+
+    /**
+     * Уникальный идентификатор токена (jti).
+     */
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    /**
+     * Тип токена: "access" или "refresh".
+     * В фильтр отозванных токенов загружаются только access-токены.
+     */
+    @Column(name = "token_type", length = 16, nullable = false)
+    private String tokenType;
+
+    /**
+     * Время истечения срока действия токена.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Время отзыва токена.
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    /**
+     * Конструктор без параметров.
+     */
+    public RevokedToken() {
+    }
+
+    /**
+     * Геттеры и сеттеры
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 
 /**
  * Сущность для представления роли пользователя в системе.
@@ -20,7 +21,8 @@ public class Role implements GrantedAuthority {
      * Уникальный идентификатор роли.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_seq")
+    @SequenceGenerator(name = "role_seq", sequenceName = "role_seq", allocationSize = 50)
     @Schema(description = "Уникальный идентификатор роли.", example = "1")
     private Long id;
 
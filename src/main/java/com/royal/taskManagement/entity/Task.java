@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,11 +22,19 @@ import java.util.List;
 @Schema(description = "Сущность задачи, содержащая информацию о названии, описании, статусе, приоритете, авторе, исполнителе и комментариях.")
 public class Task {
 
+    /**
+     * Шаг последовательности task_seq: одно значение последовательности выделяет блок из стольких идентификаторов.
+     * Должен совпадать с INCREMENT BY последовательности в миграциях.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * Идентификатор задачи.
+     * Выделяется блоками по 50 из последовательности task_seq, поэтому вставки объединяются в JDBC-пакеты.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Schema(description = "Уникальный идентификатор задачи.", example = "1")
     private Long id;
 
@@ -82,11 +91,21 @@ public class Task {
 
     /**
      * Список комментариев, связанных с задачей.
+     * Загружается лениво; для страниц задач комментарии загружаются одним запросом.
      */
-    @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Schema(description = "Список комментариев, связанных с задачей.")
     private List<Comment> comments = new ArrayList<>();
 
+    /**
+     * Версия задачи для оптимистической блокировки и ETag.
+     * Увеличивается при каждом изменении задачи и при добавлении комментария.
+     */
+    @Version
+    @Schema(description = "Версия задачи.", example = "3")
+    private Long version;
+
     /**
      * Конструктор без параметров.
      * Используется для создания пустого объекта задачи.
@@ -176,4 +195,14 @@ public class Task {
     public void setComments(List<Comment> comments) {
         this.comments = comments;
     }
+
+
+    public Long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -1,9 +1,11 @@
 package com.royal.taskManagement.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -21,7 +23,8 @@ public class User {
      * Уникальный идентификатор пользователя.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -45,6 +48,15 @@ public class User {
     @ManyToMany(fetch = FetchType.EAGER)
     private Collection<Role> roles;
 
+    /**
+     * Версия выданных пользователю токенов.
+     * Увеличивается при изменении ролей, после чего ранее выданные токены перестают приниматься.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long tokenVersion;
+
     /**
      * Конструктор без параметров.
      * Используется для создания пустого объекта пользователя.
@@ -104,4 +116,14 @@ public class User {
     public void setRoles(Collection<Role> roles) {
         this.roles = roles;
     }
+
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
+
+    public void setTokenVersion(long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
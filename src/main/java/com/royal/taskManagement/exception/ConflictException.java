@@ -0,0 +1,18 @@
+package com.royal.taskManagement.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда изменение не применено из-за одновременного изменения
+ * тех же данных другим запросом, например при несовпадении версии задачи без заголовка {@code If-Match}.
+ */
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением и причиной.
+     *
+     * @param message сообщение, которое описывает ошибку.
+     * @param cause   причина возникновения исключения.
+     */
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
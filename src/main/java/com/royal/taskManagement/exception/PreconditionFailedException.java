@@ -0,0 +1,17 @@
+package com.royal.taskManagement.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда условие запроса не выполнено,
+ * например версия из заголовка {@code If-Match} не совпадает с текущей версией задачи.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением.
+     *
+     * @param message сообщение, которое описывает ошибку.
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.royal.taskManagement.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда клиент превысил допустимую частоту запросов.
+ * Содержит время в секундах, через которое запрос может быть повторен.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением и временем ожидания.
+     *
+     * @param message           сообщение, которое описывает ошибку.
+     * @param retryAfterSeconds время ожидания в секундах до следующей попытки.
+     */
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.royal.taskManagement.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда изменяемая задача или связанный с ней пользователь не найдены.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением.
+     *
+     * @param message сообщение, которое описывает ошибку.
+     */
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
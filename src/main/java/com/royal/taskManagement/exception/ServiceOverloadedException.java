@@ -0,0 +1,37 @@
+package com.royal.taskManagement.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда ресурс сервиса исчерпан и запрос не может быть принят.
+ * Содержит рекомендуемое время ожидания перед повторной попыткой.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением и временем ожидания.
+     *
+     * @param message           сообщение, которое описывает ошибку.
+     * @param retryAfterSeconds рекомендуемое время ожидания в секундах.
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением, временем ожидания и причиной.
+     *
+     * @param message           сообщение, которое описывает ошибку.
+     * @param retryAfterSeconds рекомендуемое время ожидания в секундах.
+     * @param cause             причина возникновения исключения.
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.royal.taskManagement.exception;
+
+import com.royal.taskManagement.dto.TaskImportReportDTO;
+
+/**
+ * Исключение, которое выбрасывается, когда импорт задач прерван после загрузки части пачек.
+ * Загруженные пачки уже зафиксированы, поэтому исключение содержит отчет с их количеством
+ * и первой незагруженной строкой, с которой импорт можно повторить.
+ */
+public class TaskImportAbortedException extends CustomServiceException {
+
+    private final TaskImportReportDTO report;
+
+    /**
+     * Конструктор, который создает исключение с отчетом о загруженной части и причиной.
+     *
+     * @param report отчет о загруженной части импорта.
+     * @param cause  причина прерывания импорта.
+     */
+    public TaskImportAbortedException(TaskImportReportDTO report, Throwable cause) {
+        super("Импорт задач прерван на строке " + report.getFailure().getRow(), cause);
+        this.report = report;
+    }
+
+    public TaskImportReportDTO getReport() {
+        return report;
+    }
+}
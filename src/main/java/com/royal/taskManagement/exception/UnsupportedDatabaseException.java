@@ -0,0 +1,17 @@
+package com.royal.taskManagement.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда операция требует возможностей базы данных,
+ * недоступных в текущей, например полнотекстовый поиск вне PostgreSQL.
+ */
+public class UnsupportedDatabaseException extends RuntimeException {
+
+    /**
+     * Конструктор, который создает исключение с заданным сообщением.
+     *
+     * @param message сообщение, которое описывает ошибку.
+     */
+    public UnsupportedDatabaseException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,13 @@
 package com.royal.taskManagement.repository;
 
 import com.royal.taskManagement.entity.Comment;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,4 +23,58 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return список комментариев, связанных с указанной задачей.
      */
     List<Comment> findByTaskId(Long taskId);
+
+    /**
+     * Находит комментарии сразу для нескольких задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return список комментариев указанных задач, упорядоченный по идентификатору.
+     */
+    @Query("SELECT c FROM Comment c WHERE c.task.id IN :taskIds ORDER BY c.id")
+    List<Comment> findByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Подсчитывает количество комментариев сразу для нескольких задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return пары [идентификатор задачи, количество комментариев]; задачи без комментариев не возвращаются.
+     */
+    @Query("SELECT c.task.id, COUNT(c) FROM Comment c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+    List<Object[]> countByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Удаляет все комментарии задачи одним запросом, без загрузки комментариев.
+     * Должен вызываться внутри транзакции.
+     *
+     * @param taskId идентификатор задачи.
+     * @return количество удаленных комментариев.
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id = :taskId")
+    int deleteAllByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Удаляет все комментарии нескольких задач одним запросом.
+     * Должен вызываться внутри транзакции.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return количество удаленных комментариев.
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Удаляет очередную пачку комментариев задачи в отдельной транзакции,
+     * поэтому блокировки удерживаются только на время одной пачки.
+     *
+     * @param taskId идентификатор задачи.
+     * @param limit  максимальный размер пачки.
+     * @return количество удаленных комментариев; 0, если комментариев не осталось.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comment WHERE id IN " +
+            "(SELECT id FROM comment WHERE task_id = :taskId ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByTaskId(@Param("taskId") Long taskId, @Param("limit") int limit);
 }
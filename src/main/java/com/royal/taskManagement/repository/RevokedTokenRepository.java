@@ -0,0 +1,56 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.entity.RevokedToken;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Репозиторий для работы с сущностью {@link RevokedToken}.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Сохраняет отзыв токена, если токен еще не отозван.
+     *
+     * @param tokenId   идентификатор токена (jti).
+     * @param tokenType тип токена ("access" или "refresh").
+     * @param expiresAt время истечения токена.
+     * @param revokedAt время отзыва.
+     * @return 1, если токен отозван этим вызовом, 0, если он уже был отозван.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO revoked_token (token_id, token_type, expires_at, revoked_at) " +
+            "VALUES (:tokenId, :tokenType, :expiresAt, :revokedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("tokenType") String tokenType,
+                       @Param("expiresAt") Instant expiresAt, @Param("revokedAt") Instant revokedAt);
+
+    /**
+     * Находит идентификаторы отозванных токенов указанного типа, срок действия которых еще не истек.
+     *
+     * @param tokenType тип токена ("access" или "refresh").
+     * @param now       текущее время.
+     * @return список идентификаторов токенов.
+     */
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.tokenType = :tokenType AND r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("tokenType") String tokenType, @Param("now") Instant now);
+
+    /**
+     * Удаляет записи об отозванных токенах с истекшим сроком действия.
+     *
+     * @param now текущее время.
+     * @return число удаленных записей.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
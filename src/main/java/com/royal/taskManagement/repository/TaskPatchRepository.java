@@ -0,0 +1,79 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Точечные изменения одной колонки задачи одним запросом {@code UPDATE ... RETURNING}
+ * без загрузки сущности {@link com.royal.taskManagement.entity.Task} и ее комментариев.
+ * Групповые изменения выполняются одним запросом над множеством строк с проверкой прав в условии запроса.
+ * Каждое изменение увеличивает версию задачи. Возвращаемые задачи не содержат комментариев.
+ */
+public interface TaskPatchRepository {
+
+    /**
+     * Меняет статус задачи.
+     *
+     * @param id              идентификатор задачи.
+     * @param status          новый статус.
+     * @param expectedVersion ожидаемая версия задачи или null, если версия не проверяется.
+     * @return {@link Optional} с измененной задачей или пустой {@link Optional},
+     * если задача не найдена или ее версия не совпала с ожидаемой.
+     */
+    Optional<TaskDTO> updateStatus(Long id, TaskStatus status, Long expectedVersion);
+
+    /**
+     * Меняет приоритет задачи.
+     *
+     * @param id              идентификатор задачи.
+     * @param priority        новый приоритет.
+     * @param expectedVersion ожидаемая версия задачи или null, если версия не проверяется.
+     * @return {@link Optional} с измененной задачей или пустой {@link Optional},
+     * если задача не найдена или ее версия не совпала с ожидаемой.
+     */
+    Optional<TaskDTO> updatePriority(Long id, TaskPriority priority, Long expectedVersion);
+
+    /**
+     * Назначает задачу исполнителю по его идентификатору. Существование исполнителя проверяет внешний ключ,
+     * при его нарушении выбрасывается {@link org.springframework.dao.DataIntegrityViolationException}.
+     *
+     * @param id              идентификатор задачи.
+     * @param assigneeId      идентификатор исполнителя.
+     * @param expectedVersion ожидаемая версия задачи или null, если версия не проверяется.
+     * @return {@link Optional} с измененной задачей или пустой {@link Optional},
+     * если задача не найдена или ее версия не совпала с ожидаемой.
+     */
+    Optional<TaskDTO> updateAssignee(Long id, Long assigneeId, Long expectedVersion);
+
+    /**
+     * Меняет статус, приоритет и (или) исполнителя задач из списка одним запросом.
+     * Должен вызываться внутри транзакции.
+     *
+     * @param ids          идентификаторы задач.
+     * @param change       новые значения; незаданные значения не меняются.
+     * @param restrictToId идентификатор пользователя, который может менять только свои задачи (автор или исполнитель),
+     *                     или null, если ограничений нет.
+     * @return исход по каждому идентификатору в порядке возрастания.
+     */
+    List<TaskBulkOutcomeDTO> updateByIds(List<Long> ids, TaskBulkUpdateDTO change, Long restrictToId);
+
+    /**
+     * Меняет статус, приоритет и (или) исполнителя задач, удовлетворяющих фильтру, одним запросом.
+     * Задачи, которые пользователь не может менять, в выборку не попадают.
+     * Должен вызываться внутри транзакции.
+     *
+     * @param filter       условия отбора задач.
+     * @param change       новые значения; незаданные значения не меняются.
+     * @param restrictToId идентификатор пользователя, который может менять только свои задачи (автор или исполнитель),
+     *                     или null, если ограничений нет.
+     * @return исходы по измененным задачам в порядке возрастания идентификаторов.
+     */
+    List<TaskBulkOutcomeDTO> updateMatching(TaskFilterDTO filter, TaskBulkUpdateDTO change, Long restrictToId);
+}
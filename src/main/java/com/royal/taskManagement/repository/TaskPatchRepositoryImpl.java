@@ -0,0 +1,183 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO;
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO.Outcome;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Реализация {@link TaskPatchRepository} на JDBC для PostgreSQL.
+ * Точечное изменение выполняется одним запросом {@code UPDATE ... RETURNING}.
+ * Групповое изменение тоже выполняется одним запросом: список идентификаторов передается массивом,
+ * права пользователя проверяются в условии {@code UPDATE}, а исход по каждому идентификатору определяется
+ * в том же запросе соединением с измененными строками.
+ * Строки группового изменения блокируются в порядке возрастания идентификаторов, поэтому пересекающиеся
+ * групповые изменения ждут друг друга, а не попадают во взаимную блокировку.
+ */
+class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    private static final String RETURNED_COLUMNS =
+            "id, title, description, status, priority, author_id, assignee_id, version";
+
+    private static final RowMapper<TaskDTO> TASK_MAPPER = (rs, rowNum) -> {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setTitle(rs.getString("title"));
+        dto.setDescription(rs.getString("description"));
+        dto.setStatus(TaskStatus.valueOf(rs.getString("status")));
+        dto.setPriority(TaskPriority.valueOf(rs.getString("priority")));
+        dto.setAuthorId(rs.getLong("author_id"));
+        dto.setAssigneeId(rs.getObject("assignee_id", Long.class));
+        dto.setVersion(rs.getLong("version"));
+        return dto;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TaskPatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<TaskDTO> updateStatus(Long id, TaskStatus status, Long expectedVersion) {
+        return update("status", status.name(), id, expectedVersion);
+    }
+
+    @Override
+    public Optional<TaskDTO> updatePriority(Long id, TaskPriority priority, Long expectedVersion) {
+        return update("priority", priority.name(), id, expectedVersion);
+    }
+
+    @Override
+    public Optional<TaskDTO> updateAssignee(Long id, Long assigneeId, Long expectedVersion) {
+        return update("assignee_id", assigneeId, id, expectedVersion);
+    }
+
+    @Override
+    public List<TaskBulkOutcomeDTO> updateByIds(List<Long> ids, TaskBulkUpdateDTO change, Long restrictToId) {
+        Assignments assignments = new Assignments(change);
+        String sql = "WITH requested AS (SELECT DISTINCT unnest(CAST(? AS bigint[])) AS id), "
+                + "locked AS (SELECT t.id FROM task t JOIN requested r ON r.id = t.id ORDER BY t.id FOR UPDATE OF t), "
+                + "updated AS (UPDATE task t SET " + assignments.sql + ", version = t.version + 1 FROM locked l "
+                + "WHERE t.id = l.id" + ownedBy(restrictToId) + " RETURNING t.id, t.version) "
+                + "SELECT r.id, u.version, t.id IS NOT NULL AS found FROM requested r "
+                + "LEFT JOIN updated u ON u.id = r.id LEFT JOIN task t ON t.id = r.id ORDER BY r.id";
+        return jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            ps.setArray(index++, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+            for (Object value : assignments.values) {
+                ps.setObject(index++, value);
+            }
+            if (restrictToId != null) {
+                ps.setLong(index++, restrictToId);
+                ps.setLong(index, restrictToId);
+            }
+        }, (rs, rowNum) -> {
+            Long version = rs.getObject("version", Long.class);
+            if (version != null) {
+                return new TaskBulkOutcomeDTO(rs.getLong("id"), Outcome.UPDATED, version);
+            }
+            return new TaskBulkOutcomeDTO(rs.getLong("id"),
+                    rs.getBoolean("found") ? Outcome.FORBIDDEN : Outcome.NOT_FOUND, null);
+        });
+    }
+
+    @Override
+    public List<TaskBulkOutcomeDTO> updateMatching(TaskFilterDTO filter, TaskBulkUpdateDTO change, Long restrictToId) {
+        Assignments assignments = new Assignments(change);
+        List<String> conditions = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            conditions.add("t.status = ?");
+            values.add(filter.getStatus().name());
+        }
+        if (filter.getPriority() != null) {
+            conditions.add("t.priority = ?");
+            values.add(filter.getPriority().name());
+        }
+        if (filter.getAuthorId() != null) {
+            conditions.add("t.author_id = ?");
+            values.add(filter.getAuthorId());
+        }
+        if (filter.getAssigneeId() != null) {
+            conditions.add("t.assignee_id = ?");
+            values.add(filter.getAssigneeId());
+        }
+        String where = conditions.isEmpty() ? "1 = 1" : String.join(" AND ", conditions);
+        List<Object> args = new ArrayList<>(assignments.values);
+        args.addAll(withOwner(values, restrictToId));
+        String sql = "UPDATE task t SET " + assignments.sql + ", version = t.version + 1 WHERE t.id IN ("
+                + "SELECT t.id FROM task t WHERE " + where + ownedBy(restrictToId) + " ORDER BY t.id FOR UPDATE)"
+                + " RETURNING t.id, t.version";
+        List<TaskBulkOutcomeDTO> updated = new ArrayList<>(jdbcTemplate.query(sql, (rs, rowNum) ->
+                new TaskBulkOutcomeDTO(rs.getLong("id"), Outcome.UPDATED, rs.getLong("version")), args.toArray()));
+        updated.sort(Comparator.comparing(TaskBulkOutcomeDTO::getId));
+        return updated;
+    }
+
+    /**
+     * Условие, ограничивающее изменение задачами пользователя: он автор или исполнитель.
+     */
+    private static String ownedBy(Long restrictToId) {
+        return restrictToId == null ? "" : " AND (t.author_id = ? OR t.assignee_id = ?)";
+    }
+
+    private static List<Object> withOwner(List<Object> values, Long restrictToId) {
+        if (restrictToId == null) {
+            return values;
+        }
+        List<Object> result = new ArrayList<>(values);
+        result.add(restrictToId);
+        result.add(restrictToId);
+        return result;
+    }
+
+    /**
+     * Присваивания колонок для группового изменения; названия колонок задаются только здесь.
+     */
+    private static final class Assignments {
+
+        private final String sql;
+        private final List<Object> values = new ArrayList<>();
+
+        private Assignments(TaskBulkUpdateDTO change) {
+            List<String> columns = new ArrayList<>();
+            if (change.getStatus() != null) {
+                columns.add("status = ?");
+                values.add(change.getStatus().name());
+            }
+            if (change.getPriority() != null) {
+                columns.add("priority = ?");
+                values.add(change.getPriority().name());
+            }
+            if (change.getAssigneeId() != null) {
+                columns.add("assignee_id = ?");
+                values.add(change.getAssigneeId());
+            }
+            this.sql = String.join(", ", columns);
+        }
+    }
+
+    /**
+     * Меняет одну колонку задачи и увеличивает ее версию одним запросом.
+     * Название колонки передается только из констант этого класса.
+     */
+    private Optional<TaskDTO> update(String column, Object value, Long id, Long expectedVersion) {
+        String sql = "UPDATE task SET " + column + " = ?, version = version + 1 WHERE id = ?"
+                + (expectedVersion != null ? " AND version = ?" : "") + " RETURNING " + RETURNED_COLUMNS;
+        Object[] args = expectedVersion != null
+                ? new Object[]{value, id, expectedVersion}
+                : new Object[]{value, id};
+        return jdbcTemplate.query(sql, TASK_MAPPER, args).stream().findFirst();
+    }
+}
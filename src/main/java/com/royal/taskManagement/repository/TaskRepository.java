@@ -1,51 +1,55 @@
 package com.royal.taskManagement.repository;
 
+import com.royal.taskManagement.dto.TaskAccessDTO;
+import com.royal.taskManagement.dto.TaskExportDTO;
 import com.royal.taskManagement.entity.Comment;
 import com.royal.taskManagement.entity.Task;
-import com.royal.taskManagement.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Репозиторий для работы с сущностью {@link Task}.
  * Этот интерфейс расширяет {@link JpaRepository} и предоставляет методы для работы с задачами в базе данных.
  * Также включает запросы для извлечения комментариев, связанных с задачами.
+ * Произвольные комбинации фильтров выполняются через {@link JpaSpecificationExecutor} и {@link TaskSpecifications},
+ * точечные изменения статуса, приоритета и исполнителя — через {@link TaskPatchRepository},
+ * полнотекстовый поиск — через {@link TaskSearchRepository}.
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskPatchRepository,
+        TaskSearchRepository {
 
     /**
-     * Находит страницы задач, автором которых является указанный пользователь.
-     *
-     * @param author   пользователь, являющийся автором задачи.
-     * @param pageable параметры пагинации.
-     * @return страница задач, автором которых является указанный пользователь.
+     * Выборка строк выгрузки задач без загрузки сущностей в контекст персистентности.
      */
-    Page<Task> findByAuthor(User author, Pageable pageable);
+    String EXPORT_SELECT = "SELECT new com.royal.taskManagement.dto.TaskExportDTO(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.author.id, t.assignee.id) FROM Task t ";
 
     /**
-     * Находит страницы задач, назначенных на указанного пользователя.
-     *
-     * @param assignee пользователь, на которого назначены задачи.
-     * @param pageable параметры пагинации.
-     * @return страница задач, назначенных на указанного пользователя.
+     * Количество строк, которое драйвер читает из курсора за один раз при выгрузке.
+     * PostgreSQL использует серверный курсор только внутри транзакции и при ненулевом размере выборки.
      */
-    Page<Task> findByAssignee(User assignee, Pageable pageable);
+    String EXPORT_FETCH_SIZE = "1000";
 
     /**
-     * Находит страницы задач, автором которых является один из указанных пользователей
-     * или на которых один из них является исполнителем.
+     * Возвращает оценку количества задач из статистики планировщика PostgreSQL без сканирования таблицы.
+     * До первого ANALYZE таблицы оценка отрицательна.
      *
-     * @param author   пользователь, являющийся автором задачи.
-     * @param assignee пользователь, на которого назначены задачи.
-     * @param pageable параметры пагинации.
-     * @return страница задач, соответствующих критериям.
+     * @return приблизительное количество задач или отрицательное число, если статистики нет.
      */
-    Page<Task> findByAuthorOrAssignee(User author, User assignee, Pageable pageable);
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('task' AS regclass)", nativeQuery = true)
+    long estimateCount();
 
     /**
      * Находит комментарии, связанные с задачей по ее идентификатору.
@@ -55,4 +59,93 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT c FROM Comment c WHERE c.task.id = :taskId")
     List<Comment> findCommentsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Возвращает текущую версию задачи без загрузки самой задачи.
+     *
+     * @param id идентификатор задачи.
+     * @return {@link Optional} с версией или пустой {@link Optional}, если задача не найдена.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Возвращает версию задачи вместе с идентификаторами автора и исполнителя без загрузки самой задачи.
+     * Используется для ETag условных запросов, где нужна и проверка прав доступа.
+     *
+     * @param id идентификатор задачи.
+     * @return {@link Optional} с версией и участниками или пустой {@link Optional}, если задача не найдена.
+     */
+    @Query("SELECT new com.royal.taskManagement.dto.TaskAccessDTO(t.version, t.author.id, t.assignee.id) " +
+            "FROM Task t WHERE t.id = :id")
+    Optional<TaskAccessDTO> findVersionWithParticipantsById(@Param("id") Long id);
+
+    /**
+     * Увеличивает версию задачи, например при добавлении комментария.
+     *
+     * @param id идентификатор задачи.
+     * @return количество обновленных задач.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    /**
+     * Удаляет задачу одним запросом, без загрузки задачи и каскадного удаления комментариев по одному.
+     * Комментарии задачи должны быть удалены раньше. Должен вызываться внутри транзакции.
+     *
+     * @param id идентификатор задачи.
+     * @return 1, если задача удалена, 0, если задача не найдена.
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+    /**
+     * Удаляет задачи одним запросом. Комментарии задач должны быть удалены раньше.
+     * Должен вызываться внутри транзакции.
+     *
+     * @param ids идентификаторы задач.
+     * @return количество удаленных задач.
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Возвращает идентификаторы существующих задач из переданного набора.
+     *
+     * @param ids идентификаторы задач.
+     * @return существующие идентификаторы.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Читает все задачи для выгрузки однонаправленным курсором в порядке идентификаторов.
+     * Должен вызываться внутри транзакции, поток необходимо закрыть.
+     *
+     * @return поток строк выгрузки.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "ORDER BY t.id")
+    Stream<TaskExportDTO> streamAllForExport();
+
+    /**
+     * Читает для выгрузки задачи, где пользователь является автором или исполнителем.
+     * Должен вызываться внутри транзакции, поток необходимо закрыть.
+     *
+     * @param userId идентификатор пользователя.
+     * @return поток строк выгрузки.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "WHERE t.author.id = :userId OR t.assignee.id = :userId ORDER BY t.id")
+    Stream<TaskExportDTO> streamVisibleForExport(@Param("userId") Long userId);
 }
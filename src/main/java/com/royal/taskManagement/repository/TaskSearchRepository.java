@@ -0,0 +1,28 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
+
+import java.util.List;
+
+/**
+ * Полнотекстовый поиск задач по заголовку и описанию через GIN-индекс по столбцу search_vector.
+ * Поиск доступен только на PostgreSQL.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Находит идентификаторы задач, подходящих под поисковый запрос, в порядке убывания релевантности.
+     * Ранжируются не все совпадения, а не больше {@code app.taskSearchMaxCandidates} самых новых (с наибольшим id),
+     * поэтому выдача детерминирована, а объем ранжирования ограничен; более старые совпадения за пределами
+     * этого числа не находятся, страницы за его пределами пусты.
+     *
+     * @param query        поисковый запрос в синтаксисе websearch_to_tsquery.
+     * @param restrictToId идентификатор пользователя, чьими задачами (автор или исполнитель) ограничен поиск,
+     *                     или null для поиска по всем задачам.
+     * @param limit        максимальное количество идентификаторов.
+     * @param offset       количество пропускаемых идентификаторов.
+     * @return идентификаторы задач.
+     * @throws UnsupportedDatabaseException если база данных не PostgreSQL.
+     */
+    List<Long> searchIds(String query, Long restrictToId, int limit, long offset);
+}
@@ -0,0 +1,67 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Реализация {@link TaskSearchRepository} на JDBC.
+ * Сначала по индексу отбирается ограниченное число самых новых совпадений (по убыванию id),
+ * затем только они ранжируются функцией ts_rank и упорядочиваются по {@code (ранг, id)}.
+ * Упорядочивание кандидатов делает результат и страницы детерминированными, но PostgreSQL
+ * читает все строки, найденные по индексу, и выбирает из них top-N: стоимость растет с числом совпадений,
+ * а более старые совпадения за пределами лимита не попадают в выдачу даже при высоком ранге.
+ */
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+    private volatile Boolean postgres;
+
+    TaskSearchRepositoryImpl(JdbcTemplate jdbcTemplate,
+                             @Value("${app.taskSearchMaxCandidates:1000}") int maxCandidates) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public List<Long> searchIds(String query, Long restrictToId, int limit, long offset) {
+        if (!isPostgres()) {
+            throw new UnsupportedDatabaseException("Полнотекстовый поиск поддерживается только на PostgreSQL");
+        }
+        if (offset >= maxCandidates) {
+            return List.of();
+        }
+        String sql = "WITH q AS (SELECT websearch_to_tsquery('russian', ?) AS query), "
+                + "candidates AS (SELECT t.id, t.search_vector FROM task t, q WHERE t.search_vector @@ q.query"
+                + (restrictToId != null ? " AND (t.author_id = ? OR t.assignee_id = ?)" : "")
+                + " ORDER BY t.id DESC LIMIT ?) "
+                + "SELECT c.id FROM candidates c, q "
+                + "ORDER BY ts_rank(c.search_vector, q.query) DESC, c.id DESC LIMIT ? OFFSET ?";
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+        if (restrictToId != null) {
+            args.add(restrictToId);
+            args.add(restrictToId);
+        }
+        args.add(maxCandidates);
+        args.add(limit);
+        args.add(offset);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isWrapperFor(PGConnection.class));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Условия отбора задач для {@link TaskRepository}.
+ * Каждое условие сравнивает столбец таблицы task с параметром, поэтому комбинации условий
+ * обслуживаются индексами по (author_id | assignee_id, status, priority, id) и (status, priority, id).
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Задачи, видимые пользователю: он автор или исполнитель.
+     *
+     * @param userId идентификатор пользователя.
+     * @return условие отбора.
+     */
+    public static Specification<Task> visibleTo(Long userId) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("author").get("id"), userId),
+                cb.equal(root.get("assignee").get("id"), userId));
+    }
+
+    /**
+     * Задачи, автором которых является пользователь.
+     *
+     * @param userId идентификатор пользователя.
+     * @return условие отбора.
+     */
+    public static Specification<Task> authoredBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("author").get("id"), userId);
+    }
+
+    /**
+     * Задачи, назначенные пользователю.
+     *
+     * @param userId идентификатор пользователя.
+     * @return условие отбора.
+     */
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), userId);
+    }
+
+    /**
+     * Задачи, удовлетворяющие всем заданным условиям фильтра.
+     *
+     * @param filter условия отбора; незаданные условия пропускаются.
+     * @return условие отбора.
+     */
+    public static Specification<Task> matches(TaskFilterDTO filter) {
+        return (root, query, cb) -> {
+            var predicate = cb.conjunction();
+            if (filter.getStatus() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getPriority() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getAuthorId() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("author").get("id"), filter.getAuthorId()));
+            }
+            if (filter.getAssigneeId() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("assignee").get("id"), filter.getAssigneeId()));
+            }
+            return predicate;
+        };
+    }
+}
@@ -1,9 +1,15 @@
 package com.royal.taskManagement.repository;
 
 import com.royal.taskManagement.entity.User;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,4 +34,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true, если пользователь с такой электронной почтой существует, иначе false.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Находит текущую версию токенов пользователя.
+     *
+     * @param id идентификатор пользователя.
+     * @return {@link Optional} с версией токенов, если пользователь существует, иначе пустой {@link Optional}.
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * Заменяет хеш пароля, если он не изменился с момента чтения.
+     *
+     * @param id          идентификатор пользователя.
+     * @param oldPassword хеш пароля, прочитанный ранее.
+     * @param newPassword новый хеш пароля.
+     * @return число обновленных строк: 1, если хеш заменен, иначе 0.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
+    /**
+     * Возвращает идентификаторы существующих пользователей из указанного набора одним запросом.
+     *
+     * @param ids проверяемые идентификаторы.
+     * @return идентификаторы, для которых пользователь существует.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
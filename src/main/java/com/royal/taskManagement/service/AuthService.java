@@ -29,4 +29,21 @@ public interface AuthService {
      * @return строка с подтверждением успешной регистрации.
      */
     String register(User user);
+
+    /**
+     * Обменивает refresh-токен на новую пару токенов.
+     * Использованный refresh-токен отзывается, поэтому повторно его использовать нельзя.
+     *
+     * @param refreshToken refresh-токен.
+     * @return объект {@link AuthenticationResponseDTO} с новыми JWT и refresh-токеном.
+     */
+    AuthenticationResponseDTO refresh(String refreshToken);
+
+    /**
+     * Выход из системы: отзывает access-токен и, если передан, refresh-токен того же пользователя.
+     *
+     * @param accessToken  текущий access-токен.
+     * @param refreshToken refresh-токен или null.
+     */
+    void logout(String accessToken, String refreshToken);
 }
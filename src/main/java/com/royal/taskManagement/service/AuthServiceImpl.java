@@ -4,17 +4,19 @@ import com.royal.taskManagement.dto.AuthenticationRequestDTO;
 import com.royal.taskManagement.dto.AuthenticationResponseDTO;
 import com.royal.taskManagement.entity.Role;
 import com.royal.taskManagement.entity.User;
-import com.royal.taskManagement.repository.RoleRepository;
+import com.royal.taskManagement.exception.ServiceOverloadedException;
 import com.royal.taskManagement.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class AuthServiceImpl implements AuthService {
 
@@ -22,17 +24,23 @@ public class AuthServiceImpl implements AuthService {
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtService jwtUtil;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final PasswordRehashService passwordRehashService;
+    private final TokenRevocationService tokenRevocationService;
     private final Logger LOGGER = LoggerFactory.getLogger(AuthServiceImpl.class);
 
-    public AuthServiceImpl(AuthenticationManager authenticationManager, UserDetailsServiceImpl userDetailsService, JwtService jwtUtil, UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public AuthServiceImpl(AuthenticationManager authenticationManager, UserDetailsServiceImpl userDetailsService, JwtService jwtUtil, UserRepository userRepository, RoleRegistry roleRegistry, PasswordEncoder passwordEncoder, UserCache userCache, PasswordRehashService passwordRehashService, TokenRevocationService tokenRevocationService) {
         this.authenticationManager = authenticationManager;
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.passwordRehashService = passwordRehashService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -45,16 +53,65 @@ public class AuthServiceImpl implements AuthService {
         } catch (BadCredentialsException e) {
             LOGGER.error("Неверное почта пользователя или пароль", e);
             throw new Exception("Неверное почта пользователя или пароль", e);
+        } catch (ServiceOverloadedException e) {
+            LOGGER.warn("Аутентификация отклонена: {}", e.getMessage());
+            throw e;
+        } catch (InternalAuthenticationServiceException e) {
+            if (e.getCause() instanceof ServiceOverloadedException overloaded) {
+                LOGGER.warn("Аутентификация отклонена: {}", overloaded.getMessage());
+                throw overloaded;
+            }
+            LOGGER.error("Аутентификация провалена", e);
+            throw e;
         } catch (Exception e) {
             LOGGER.error("Аутентификация провалена", e);
             throw e;
         }
 
-        final UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-        final String jwt = jwtUtil.generateToken(userDetails);
+        final User user = userDetailsService.findUserByEmail(request.getEmail());
+        passwordRehashService.rehashIfNeeded(user, request.getPassword());
+        final String jwt = jwtUtil.generateToken(user);
+        final String refreshToken = jwtUtil.generateRefreshToken(user);
 
         LOGGER.info("JWT token сгенерирован для: " + request.getEmail());
-        return new AuthenticationResponseDTO(jwt);
+        return new AuthenticationResponseDTO(jwt, refreshToken);
+    }
+
+    @Override
+    public AuthenticationResponseDTO refresh(String refreshToken) {
+        VerifiedToken token = verify(refreshToken)
+                .filter(VerifiedToken::isRefreshToken)
+                .orElseThrow(() -> new BadCredentialsException("Недействительный refresh-токен"));
+
+        if (!tokenRevocationService.revoke(token)) {
+            LOGGER.warn("Повторное использование refresh-токена пользователя: " + token.getUsername());
+            throw new BadCredentialsException("Refresh-токен уже использован или отозван");
+        }
+
+        User user = userCache.getById(token.getUserId(), userRepository::findById)
+                .orElseThrow(() -> new BadCredentialsException("Пользователь не найден"));
+        LOGGER.info("Токены обновлены для: " + user.getEmail());
+        return new AuthenticationResponseDTO(jwtUtil.generateToken(user), jwtUtil.generateRefreshToken(user));
+    }
+
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        VerifiedToken access = verify(accessToken)
+                .filter(token -> !token.isRefreshToken())
+                .orElseThrow(() -> new BadCredentialsException("Недействительный JWT токен"));
+        tokenRevocationService.revoke(access);
+
+        if (refreshToken != null) {
+            verify(refreshToken)
+                    .filter(VerifiedToken::isRefreshToken)
+                    .filter(token -> token.getUsername().equals(access.getUsername()))
+                    .ifPresent(tokenRevocationService::revoke);
+        }
+        LOGGER.info("Выход выполнен для: " + access.getUsername());
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
+        return token == null || token.isBlank() ? Optional.empty() : jwtUtil.verifyToken(token);
     }
 
     @Override
@@ -63,14 +120,10 @@ public class AuthServiceImpl implements AuthService {
             throw new IllegalArgumentException("Пользователь с такой почтой уже существует");
         }
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        Role userRole = roleRepository.findByName("USER");
-        if (userRole == null) {
-            userRole = new Role();
-            userRole.setName("USER");
-            roleRepository.save(userRole);
-        }
+        Role userRole = roleRegistry.getRole("USER");
         user.getRoles().add(userRole);
         userRepository.save(user);
+        userCache.invalidateAfterCommit(user.getId(), user.getEmail());
         return "Пользователь успешно зарегистрирован, id:" + user.getId();
     }
 }
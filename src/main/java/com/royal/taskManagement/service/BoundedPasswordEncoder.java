@@ -0,0 +1,39 @@
+package com.royal.taskManagement.service;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Кодировщик паролей, выполняющий хеширование и проверку в {@link PasswordHashingExecutor}
+ * вместо потока, обрабатывающего запрос.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    /**
+     * Конструктор кодировщика.
+     *
+     * @param delegate кодировщик, выполняющий вычисления.
+     * @param executor пул для хеширования паролей.
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.verify(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -44,4 +44,14 @@ public interface CommentService {
      * @return список объектов {@link CommentDTO}, представляющих комментарии к задаче.
      */
     List<CommentDTO> getCommentsByTaskId(Long taskId, User currentUser);
+
+    /**
+     * Возвращает текущую версию задачи для ETag списка комментариев, не загружая сами комментарии.
+     * Версия задачи увеличивается при каждом добавлении комментария.
+     *
+     * @param taskId      идентификатор задачи.
+     * @param currentUser текущий пользователь, чьи права будут учитываться.
+     * @return версия задачи.
+     */
+    Long getTaskVersion(Long taskId, User currentUser);
 }
@@ -1,6 +1,7 @@
 package com.royal.taskManagement.service;
 
 import com.royal.taskManagement.dto.CommentDTO;
+import com.royal.taskManagement.dto.TaskAccessDTO;
 import com.royal.taskManagement.entity.Comment;
 import com.royal.taskManagement.entity.Task;
 import com.royal.taskManagement.entity.User;
@@ -22,11 +23,13 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
+    private final TaskCache taskCache;
 
     @Autowired
-    public CommentServiceImpl(CommentRepository commentRepository, TaskRepository taskRepository) {
+    public CommentServiceImpl(CommentRepository commentRepository, TaskRepository taskRepository, TaskCache taskCache) {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
+        this.taskCache = taskCache;
     }
 
     @Override
@@ -44,6 +47,8 @@ public class CommentServiceImpl implements CommentService {
             comment.setTask(task);
 
             Comment savedComment = commentRepository.save(comment);
+            taskRepository.incrementVersion(taskId);
+            taskCache.invalidateAfterCommit(taskId);
             return new CommentDTO(savedComment);
         } catch (Exception e) {
             LOGGER.error("Error adding comment to task {}: {}", taskId, e.getMessage());
@@ -69,10 +74,31 @@ public class CommentServiceImpl implements CommentService {
         }
     }
 
+    @Override
+    public Long getTaskVersion(Long taskId, User currentUser) {
+        try {
+            TaskAccessDTO task = taskRepository.findVersionWithParticipantsById(taskId)
+                    .orElseThrow(() -> new CustomServiceException("Task not found"));
+
+            if (!task.isParticipant(currentUser.getId()) && !isAdmin(currentUser)) {
+                throw new CustomServiceException("Only the admin or assignee can view comments");
+            }
+
+            return task.getVersion();
+        } catch (Exception e) {
+            LOGGER.error("Ошибка получения версии задачи {}: {}", taskId, e.getMessage());
+            throw new CustomServiceException("Ошибка получения комментариев к задаче", e);
+        }
+    }
+
     @Override
     public boolean isUserAuthorizedToComment(Task task, User currentUser) {
         return currentUser.getId().equals(task.getAuthor().getId()) ||
                 (task.getAssignee() != null && currentUser.getId().equals(task.getAssignee().getId())) ||
-                currentUser.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN"));
+                isAdmin(currentUser);
+    }
+
+    private boolean isAdmin(User user) {
+        return user.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN"));
     }
 }
@@ -0,0 +1,80 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Ограниченный повтор изменений, которые можно безопасно выполнить повторно: присвоение статуса,
+ * приоритета или исполнителя дает тот же результат независимо от того, какое изменение применилось раньше.
+ * Повторяются только ошибки конкурентного доступа ({@link ConcurrencyFailureException}: конфликт версий,
+ * взаимная блокировка, ожидание блокировки). Каждый повтор выполняется заново целиком, поэтому операция
+ * не должна выполняться внутри внешней транзакции. Число попыток ограничено {@code app.conflictRetryAttempts},
+ * пауза между попытками растет от {@code app.conflictRetryBackoffMillis} со случайным разбросом.
+ * Повторы публикуются в метрике {@code task.conflict.retries}.
+ */
+@Component
+public class ConflictRetry {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter retries;
+
+    /**
+     * Конструктор.
+     *
+     * @param maxAttempts   максимальное число попыток, включая первую.
+     * @param backoffMillis начальная пауза между попытками в миллисекундах.
+     * @param meterRegistry реестр метрик.
+     */
+    @Autowired
+    public ConflictRetry(@Value("${app.conflictRetryAttempts:3}") int maxAttempts,
+                         @Value("${app.conflictRetryBackoffMillis:10}") long backoffMillis,
+                         MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.retries = Counter.builder("task.conflict.retries").register(meterRegistry);
+    }
+
+    /**
+     * Выполняет операцию, повторяя ее при ошибке конкурентного доступа.
+     *
+     * @param operation операция.
+     * @param <T>       тип результата.
+     * @return результат операции.
+     * @throws ConflictException если все попытки завершились ошибкой конкурентного доступа.
+     */
+    public <T> T run(Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new ConflictException("Задача одновременно изменяется другими запросами, повторите попытку", e);
+                }
+                retries.increment();
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long delay = backoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Повтор изменения прерван", e);
+        }
+    }
+}
@@ -1,68 +1,87 @@
 package com.royal.taskManagement.service;
 
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Сервис для работы с JWT токенами.
- * Предоставляет методы для генерации, извлечения информации и валидации JWT токенов.
+ * Предоставляет методы для генерации JWT токенов и их проверки за один разбор ({@link #verifyToken}).
+ * Ключ подписи и парсер создаются один раз при старте и переиспользуются всеми запросами.
+ * Выпускает короткоживущие access-токены ({@code app.jwtAccessTtlSeconds}) и refresh-токены
+ * ({@code app.jwtRefreshTtlSeconds}); каждый токен имеет уникальный идентификатор (jti) для отзыва.
  */
 @Service
 public class JwtService {
 
-    @Value("${app.jwtSecret}")
-    private String SECRET_KEY;
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLES = "roles";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+    static final String CLAIM_TOKEN_TYPE = "typ";
+    static final String TOKEN_TYPE_ACCESS = "access";
+    static final String TOKEN_TYPE_REFRESH = "refresh";
 
-    /**
-     * Получает секретный ключ для подписи токена.
-     *
-     * @return секретный ключ.
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-    }
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
 
     /**
-     * Извлекает имя пользователя из JWT токена.
+     * Конструктор сервиса со сроками действия токенов по умолчанию.
      *
-     * @param token JWT токен.
-     * @return имя пользователя (subject).
+     * @param secretKey секрет для подписи токенов.
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    JwtService(String secretKey) {
+        this(secretKey, 900, 1_209_600);
     }
 
     /**
-     * Извлекает дату истечения токена.
+     * Конструктор сервиса.
      *
-     * @param token JWT токен.
-     * @return дата истечения токена.
+     * @param secretKey          секрет для подписи токенов.
+     * @param accessTtlSeconds   срок действия access-токена в секундах.
+     * @param refreshTtlSeconds  срок действия refresh-токена в секундах.
      */
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    @Autowired
+    public JwtService(@Value("${app.jwtSecret}") String secretKey,
+                      @Value("${app.jwtAccessTtlSeconds:900}") long accessTtlSeconds,
+                      @Value("${app.jwtRefreshTtlSeconds:1209600}") long refreshTtlSeconds) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.accessTokenTtl = Duration.ofSeconds(accessTtlSeconds);
+        this.refreshTokenTtl = Duration.ofSeconds(refreshTtlSeconds);
     }
 
     /**
-     * Извлекает конкретное требуемое значение из токена.
+     * Проверяет подпись и срок действия токена за один разбор.
      *
-     * @param token          JWT токен.
-     * @param claimsResolver функция для извлечения необходимого значения из claims.
-     * @param <T>            тип возвращаемого значения.
-     * @return требуемое значение.
+     * @param token JWT токен.
+     * @return {@link Optional} с проверенным токеном или пустой {@link Optional}, если токен невалиден.
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public Optional<VerifiedToken> verifyToken(String token) {
+        try {
+            return Optional.of(VerifiedToken.from(extractAllClaims(token)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -72,32 +91,49 @@ public class JwtService {
      * @return claims, содержащие информацию о токене.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Проверяет, истек ли срок действия токена.
+     * Генерирует JWT токен для указанного пользователя.
      *
-     * @param token JWT токен.
-     * @return true, если токен истек, иначе false.
+     * @param userDetails объект {@link UserDetails}, содержащий информацию о пользователе.
+     * @return JWT токен.
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS);
+        return createToken(claims, userDetails.getUsername(), accessTokenTtl);
     }
 
     /**
-     * Генерирует JWT токен для указанного пользователя.
+     * Генерирует JWT токен, содержащий идентификатор, роли и версию токенов пользователя.
+     * Такой токен позволяет аутентифицировать запрос без обращения к базе данных.
      *
-     * @param userDetails объект {@link UserDetails}, содержащий информацию о пользователе.
+     * @param user пользователь, для которого выпускается токен.
      * @return JWT токен.
      */
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLES, user.getRoles().stream().map(Role::getName).toList());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS);
+        return createToken(claims, user.getEmail(), accessTokenTtl);
+    }
+
+    /**
+     * Генерирует долгоживущий refresh-токен, который можно обменять на новую пару токенов.
+     * Refresh-токен не содержит ролей и не принимается как access-токен.
+     *
+     * @param user пользователь, для которого выпускается токен.
+     * @return JWT refresh-токен.
+     */
+    public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
+        return createToken(claims, user.getEmail(), refreshTokenTtl);
     }
 
     /**
@@ -105,27 +141,18 @@ public class JwtService {
      *
      * @param claims  дополнительные данные для токена.
      * @param subject субъект (например, имя пользователя).
+     * @param ttl     срок действия токена.
      * @return JWT токен.
      */
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, Duration ttl) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttl.toMillis()))
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
-
-    /**
-     * Проверяет, является ли JWT токен валидным для указанного пользователя.
-     *
-     * @param token       JWT токен.
-     * @param userDetails объект {@link UserDetails}, содержащий информацию о пользователе.
-     * @return true, если токен валиден, иначе false.
-     */
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
 }
@@ -0,0 +1,115 @@
+package com.royal.taskManagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.royal.taskManagement.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ограничитель частоты попыток входа по почте и по IP-адресу.
+ * Реализует алгоритм GCRA: состояние каждого ключа — одно значение {@link AtomicLong}
+ * (теоретическое время следующего запроса), которое обновляется через CAS без блокировок.
+ * Ключи хранятся в ограниченном по размеру кэше и удаляются после периода простоя.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Bucket emailBucket;
+    private final Bucket ipBucket;
+    private final Ticker ticker;
+
+    /**
+     * Конструктор ограничителя.
+     *
+     * @param emailPerMinute допустимое число попыток в минуту для одной почты.
+     * @param emailBurst     допустимый всплеск попыток для одной почты.
+     * @param ipPerMinute    допустимое число попыток в минуту для одного IP-адреса.
+     * @param ipBurst        допустимый всплеск попыток для одного IP-адреса.
+     * @param maxKeys        максимальное число отслеживаемых ключей каждого вида.
+     * @param meterRegistry  реестр метрик.
+     */
+    @Autowired
+    public LoginRateLimiter(@Value("${app.loginRateEmailPerMinute:5}") long emailPerMinute,
+                            @Value("${app.loginRateEmailBurst:5}") long emailBurst,
+                            @Value("${app.loginRateIpPerMinute:60}") long ipPerMinute,
+                            @Value("${app.loginRateIpBurst:20}") long ipBurst,
+                            @Value("${app.loginRateMaxKeys:100000}") long maxKeys,
+                            MeterRegistry meterRegistry) {
+        this(emailPerMinute, emailBurst, ipPerMinute, ipBurst, maxKeys, Ticker.systemTicker(), meterRegistry);
+    }
+
+    LoginRateLimiter(long emailPerMinute, long emailBurst, long ipPerMinute, long ipBurst, long maxKeys, Ticker ticker) {
+        this(emailPerMinute, emailBurst, ipPerMinute, ipBurst, maxKeys, ticker, new SimpleMeterRegistry());
+    }
+
+    private LoginRateLimiter(long emailPerMinute, long emailBurst, long ipPerMinute, long ipBurst, long maxKeys,
+                             Ticker ticker, MeterRegistry meterRegistry) {
+        this.ticker = ticker;
+        this.emailBucket = new Bucket("email", emailPerMinute, emailBurst, maxKeys, ticker, meterRegistry);
+        this.ipBucket = new Bucket("ip", ipPerMinute, ipBurst, maxKeys, ticker, meterRegistry);
+    }
+
+    /**
+     * Учитывает попытку входа и отклоняет ее, если лимит по IP-адресу или по почте исчерпан.
+     *
+     * @param email    почта, указанная при входе.
+     * @param clientIp IP-адрес клиента.
+     * @throws RateLimitExceededException если попытка превышает лимит.
+     */
+    public void checkLogin(String email, String clientIp) {
+        long now = ticker.read();
+        if (clientIp != null) {
+            ipBucket.acquire(clientIp, now);
+        }
+        if (email != null) {
+            emailBucket.acquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final long emissionIntervalNanos;
+        private final long toleranceNanos;
+        private final Cache<String, AtomicLong> arrivals;
+        private final Counter throttled;
+
+        Bucket(String name, long perMinute, long burst, long maxKeys, Ticker ticker, MeterRegistry meterRegistry) {
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+            this.toleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+            this.arrivals = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(Duration.ofNanos(toleranceNanos))
+                    .ticker(ticker)
+                    .build();
+            this.throttled = Counter.builder("auth.login.throttled").tag("key", name).register(meterRegistry);
+        }
+
+        void acquire(String key, long now) {
+            AtomicLong theoreticalArrival = arrivals.get(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long overshoot = next - now - toleranceNanos;
+                if (overshoot > 0) {
+                    throttled.increment();
+                    throw new RateLimitExceededException("Слишком много попыток входа, повторите позже",
+                            Math.max(1, TimeUnit.NANOSECONDS.toSeconds(overshoot + TimeUnit.SECONDS.toNanos(1) - 1)));
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Ограниченный пул потоков для хеширования и проверки паролей.
+ * Число одновременных вычислений ограничено {@code app.passwordHashingThreads}, а очередь —
+ * {@code app.passwordHashingQueueCapacity}. При переполнении очереди или превышении
+ * {@code app.passwordHashingTimeoutMillis} выбрасывается {@link ServiceOverloadedException},
+ * поэтому всплеск входов не занимает все потоки веб-сервера.
+ * Публикует метрики {@code password.hashing.queue.size}, {@code password.hashing.active},
+ * {@code password.hashing.duration}, {@code password.hashing.wait} и {@code password.hashing.rejected}.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    /**
+     * Конструктор пула.
+     *
+     * @param threads           число потоков, 0 — по числу доступных процессоров.
+     * @param queueCapacity     максимальное число ожидающих задач.
+     * @param timeoutMillis     максимальное время ожидания результата в миллисекундах.
+     * @param retryAfterSeconds рекомендуемое клиенту время ожидания при перегрузке.
+     * @param meterRegistry     реестр метрик.
+     */
+    public PasswordHashingExecutor(@Value("${app.passwordHashingThreads:0}") int threads,
+                                   @Value("${app.passwordHashingQueueCapacity:64}") int queueCapacity,
+                                   @Value("${app.passwordHashingTimeoutMillis:5000}") long timeoutMillis,
+                                   @Value("${app.passwordHashingRetryAfterSeconds:1}") long retryAfterSeconds,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.hashTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hashing.duration").tag("operation", "matches").register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hashing.wait").register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * Выполняет хеширование пароля в пуле.
+     *
+     * @param task вычисление хеша.
+     * @param <T>  тип результата.
+     * @return результат вычисления.
+     * @throws ServiceOverloadedException если пул перегружен.
+     */
+    public <T> T hash(Supplier<T> task) {
+        return execute(hashTimer, task);
+    }
+
+    /**
+     * Выполняет проверку пароля в пуле.
+     *
+     * @param task проверка пароля.
+     * @param <T>  тип результата.
+     * @return результат проверки.
+     * @throws ServiceOverloadedException если пул перегружен.
+     */
+    public <T> T verify(Supplier<T> task) {
+        return execute(verifyTimer, task);
+    }
+
+    /**
+     * Ставит фоновую задачу в очередь пула без ожидания результата.
+     *
+     * @param task задача.
+     * @return true, если задача принята, false, если очередь переполнена.
+     */
+    public boolean trySubmit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Очередь хеширования паролей переполнена", retryAfterSeconds, e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceOverloadedException("Превышено время ожидания хеширования пароля", retryAfterSeconds, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Хеширование пароля прервано", retryAfterSeconds, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Останавливает пул при завершении приложения.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
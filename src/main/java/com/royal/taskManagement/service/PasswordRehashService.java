@@ -0,0 +1,73 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Перехеширует пароли с устаревшей стоимостью BCrypt после успешного входа.
+ * Новый хеш вычисляется в фоне в {@link PasswordHashingExecutor} и сохраняется, только если
+ * пароль пользователя не изменился за это время.
+ */
+@Service
+public class PasswordRehashService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private final BCryptPasswordEncoder encoder;
+    private final PasswordHashingExecutor executor;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+
+    /**
+     * Конструктор сервиса.
+     *
+     * @param calibrator     источник текущей стоимости BCrypt.
+     * @param executor       пул для хеширования паролей.
+     * @param userRepository репозиторий пользователей.
+     * @param userCache      кэш пользователей.
+     */
+    public PasswordRehashService(PasswordStrengthCalibrator calibrator, PasswordHashingExecutor executor,
+                                 UserRepository userRepository, UserCache userCache) {
+        this.encoder = new BCryptPasswordEncoder(calibrator.getStrength());
+        this.executor = executor;
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+    }
+
+    /**
+     * Ставит в очередь перехеширование пароля, если его стоимость ниже текущей.
+     * Вызывается только после успешной проверки пароля.
+     *
+     * @param user        аутентифицированный пользователь.
+     * @param rawPassword введенный пароль.
+     * @return true, если перехеширование поставлено в очередь.
+     */
+    public boolean rehashIfNeeded(User user, CharSequence rawPassword) {
+        String currentHash = user.getPassword();
+        if (currentHash == null || !encoder.upgradeEncoding(currentHash)) {
+            return false;
+        }
+        Long userId = user.getId();
+        String email = user.getEmail();
+        String password = rawPassword.toString();
+        boolean accepted = executor.trySubmit(() -> {
+            try {
+                String newHash = encoder.encode(password);
+                if (userRepository.updatePassword(userId, currentHash, newHash) > 0) {
+                    userCache.invalidateAfterCommit(userId, email);
+                    LOGGER.info("Пароль пользователя {} перехеширован с текущей стоимостью", userId);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Не удалось перехешировать пароль пользователя {}", userId, e);
+            }
+        });
+        if (!accepted) {
+            LOGGER.debug("Перехеширование пароля пользователя {} отложено: пул перегружен", userId);
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,81 @@
+package com.royal.taskManagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Подбирает стоимость BCrypt при старте приложения.
+ * Выбирается наибольшая стоимость в диапазоне {@code app.passwordHashingMinStrength}..{@code app.passwordHashingMaxStrength},
+ * при которой хеширование на текущем оборудовании укладывается в {@code app.passwordHashingTargetMillis}.
+ * Если задан {@code app.passwordHashingStrength}, подбор не выполняется.
+ * Стоимость хранится в самом хеше BCrypt, поэтому старые хеши остаются валидными.
+ */
+@Component
+public class PasswordStrengthCalibrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordStrengthCalibrator.class);
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+
+    /**
+     * Конструктор, выполняющий подбор стоимости.
+     *
+     * @param fixedStrength фиксированная стоимость, 0 — подобрать автоматически.
+     * @param targetMillis  целевое время хеширования в миллисекундах.
+     * @param minStrength   минимально допустимая стоимость.
+     * @param maxStrength   максимально допустимая стоимость.
+     */
+    @Autowired
+    public PasswordStrengthCalibrator(@Value("${app.passwordHashingStrength:0}") int fixedStrength,
+                                      @Value("${app.passwordHashingTargetMillis:100}") long targetMillis,
+                                      @Value("${app.passwordHashingMinStrength:10}") int minStrength,
+                                      @Value("${app.passwordHashingMaxStrength:16}") int maxStrength) {
+        this(fixedStrength, targetMillis, minStrength, maxStrength, PasswordStrengthCalibrator::measureMillis);
+    }
+
+    PasswordStrengthCalibrator(int fixedStrength, long targetMillis, int minStrength, int maxStrength,
+                               IntToLongFunction hashMillis) {
+        if (fixedStrength > 0) {
+            this.strength = fixedStrength;
+            LOGGER.info("Стоимость BCrypt задана явно: {}", strength);
+            return;
+        }
+        int current = minStrength;
+        long millis = hashMillis.applyAsLong(current);
+        // Каждое увеличение стоимости удваивает время хеширования.
+        while (current < maxStrength && millis * 2 <= targetMillis) {
+            current++;
+            millis = hashMillis.applyAsLong(current);
+        }
+        this.strength = current;
+        LOGGER.info("Подобрана стоимость BCrypt: {} ({} мс на хеш, цель {} мс)", strength, millis, targetMillis);
+    }
+
+    /**
+     * Возвращает выбранную стоимость BCrypt.
+     *
+     * @return стоимость (логарифм числа раундов).
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    private static long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+}
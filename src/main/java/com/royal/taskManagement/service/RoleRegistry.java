@@ -0,0 +1,67 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.repository.RoleRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Неизменяемый справочник ролей, загружаемый из базы один раз при старте приложения.
+ * Роли меняются только при создании новой роли, поэтому чтение не требует обращений к базе.
+ */
+@Component
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private volatile Map<String, Role> roles = Map.of();
+
+    /**
+     * Конструктор справочника.
+     *
+     * @param roleRepository репозиторий ролей.
+     */
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Загружает все роли из базы, создает недостающие и публикует новый неизменяемый справочник.
+     *
+     * @param names названия ролей, которые должны существовать.
+     */
+    public synchronized void ensureRoles(String... names) {
+        Map<String, Role> loaded = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            loaded.put(role.getName(), role);
+        }
+        for (String name : names) {
+            if (!loaded.containsKey(name)) {
+                Role role = new Role();
+                role.setName(name);
+                loaded.put(name, roleRepository.save(role));
+            }
+        }
+        roles = Map.copyOf(loaded);
+    }
+
+    /**
+     * Возвращает роль по названию, создавая ее при отсутствии.
+     *
+     * @param name название роли, например "USER" или "ADMIN".
+     * @return роль с указанным названием.
+     */
+    public Role getRole(String name) {
+        Role role = roles.get(name);
+        if (role != null) {
+            return role;
+        }
+        synchronized (this) {
+            if (!roles.containsKey(name)) {
+                ensureRoles(name);
+            }
+            return roles.get(name);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskBulkDeleteResultDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateResultDTO;
+import com.royal.taskManagement.entity.User;
+
+import java.util.List;
+
+/**
+ * Сервис для группового изменения статуса, приоритета и исполнителя задач и группового удаления задач.
+ * Изменение выполняется одним запросом над множеством строк в одной транзакции,
+ * права пользователя на каждую задачу проверяются в условии запроса.
+ */
+public interface TaskBulkService {
+
+    /**
+     * Изменяет задачи из списка идентификаторов или удовлетворяющие фильтру.
+     * Администратор может менять любые задачи, остальные пользователи — задачи, где они автор или исполнитель.
+     * Исполнителя может менять только администратор.
+     *
+     * @param request идентификаторы или фильтр и новые значения.
+     * @param user    пользователь, выполняющий изменение.
+     * @return количество измененных задач и исход по каждой задаче.
+     * @throws IllegalArgumentException если запрос некорректен: нет новых значений, заданы одновременно
+     *                                  идентификаторы и фильтр или идентификаторов больше допустимого.
+     * @throws org.springframework.security.access.AccessDeniedException если исполнителя меняет не администратор.
+     * @throws com.royal.taskManagement.exception.ResourceNotFoundException если новый исполнитель не найден.
+     * @throws com.royal.taskManagement.exception.ConflictException если изменение не удалось применить
+     *                                                              за ограниченное число повторов.
+     */
+    TaskBulkUpdateResultDTO updateTasks(TaskBulkUpdateDTO request, User user);
+
+    /**
+     * Удаляет задачи и их комментарии в одной транзакции: комментарии всех задач одним запросом, затем задачи.
+     *
+     * @param ids  идентификаторы задач.
+     * @param user пользователь, выполняющий удаление.
+     * @return количество удаленных задач и комментариев и ненайденные задачи.
+     * @throws IllegalArgumentException если идентификаторов нет или больше допустимого.
+     */
+    TaskBulkDeleteResultDTO deleteTasks(List<Long> ids, User user);
+}
@@ -0,0 +1,130 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskBulkDeleteResultDTO;
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateResultDTO;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.exception.ConflictException;
+import com.royal.taskManagement.exception.CustomServiceException;
+import com.royal.taskManagement.exception.ResourceNotFoundException;
+import com.royal.taskManagement.repository.CommentRepository;
+import com.royal.taskManagement.repository.TaskRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class TaskBulkServiceImpl implements TaskBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBulkServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TaskCache taskCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflictRetry conflictRetry;
+    private final int maxIds;
+
+    @Autowired
+    public TaskBulkServiceImpl(TaskRepository taskRepository, CommentRepository commentRepository, TaskCache taskCache,
+                               TransactionTemplate transactionTemplate, ConflictRetry conflictRetry,
+                               @Value("${app.taskBulkMaxIds:10000}") int maxIds) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.taskCache = taskCache;
+        this.transactionTemplate = transactionTemplate;
+        this.conflictRetry = conflictRetry;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Каждая попытка выполняется в отдельной транзакции: присвоение новых значений можно безопасно повторить,
+     * если транзакция откатилась из-за одновременного изменения тех же задач.
+     */
+    @Override
+    public TaskBulkUpdateResultDTO updateTasks(TaskBulkUpdateDTO request, User user) {
+        validate(request);
+        if (request.getAssigneeId() != null && !isAdmin(user)) {
+            throw new AccessDeniedException("Менять исполнителя может только администратор");
+        }
+        Long restrictToId = isAdmin(user) ? null : user.getId();
+        try {
+            return conflictRetry.run(() -> transactionTemplate.execute(status -> {
+                List<TaskBulkOutcomeDTO> outcomes = request.getIds() != null
+                        ? taskRepository.updateByIds(request.getIds(), request, restrictToId)
+                        : taskRepository.updateMatching(request.getFilter(), request, restrictToId);
+                outcomes.stream()
+                        .filter(outcome -> outcome.getOutcome() == TaskBulkOutcomeDTO.Outcome.UPDATED)
+                        .forEach(outcome -> taskCache.invalidateAfterCommit(outcome.getId()));
+                return new TaskBulkUpdateResultDTO(outcomes);
+            }));
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException("Исполнитель не найден");
+        } catch (ConflictException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Ошибка группового изменения задач: {}", e.getMessage());
+            throw new CustomServiceException("Ошибка группового изменения задач", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public TaskBulkDeleteResultDTO deleteTasks(List<Long> ids, User user) {
+        validateIds(ids);
+        try {
+            List<Long> existing = taskRepository.findExistingIds(ids);
+            if (existing.isEmpty()) {
+                return new TaskBulkDeleteResultDTO(0, 0, ids.stream().distinct().toList());
+            }
+            int deletedComments = commentRepository.deleteAllByTaskIdIn(existing);
+            int deleted = taskRepository.deleteRowsByIdIn(existing);
+            existing.forEach(taskCache::invalidateAfterCommit);
+            Set<Long> found = new HashSet<>(existing);
+            List<Long> notFound = ids.stream().distinct().filter(id -> !found.contains(id)).toList();
+            return new TaskBulkDeleteResultDTO(deleted, deletedComments, notFound);
+        } catch (Exception e) {
+            logger.error("Ошибка группового удаления задач: {}", e.getMessage());
+            throw new CustomServiceException("Ошибка группового удаления задач", e);
+        }
+    }
+
+    private void validate(TaskBulkUpdateDTO request) {
+        if (request.hasNoChanges()) {
+            throw new IllegalArgumentException("Не задано ни одного нового значения: status, priority или assigneeId");
+        }
+        boolean byIds = request.getIds() != null;
+        boolean byFilter = request.getFilter() != null && !request.getFilter().isEmpty();
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Нужно задать либо ids, либо непустой filter");
+        }
+        if (byIds) {
+            validateIds(request.getIds());
+        }
+    }
+
+    private void validateIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxIds) {
+            throw new IllegalArgumentException("Количество ids должно быть от 1 до " + maxIds);
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids не должны содержать null");
+        }
+    }
+
+    private boolean isAdmin(User user) {
+        return user.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN"));
+    }
+}
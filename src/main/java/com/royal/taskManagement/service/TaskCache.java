@@ -0,0 +1,85 @@
+package com.royal.taskManagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.utils.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Локальный кэш задач по идентификатору с комментариями.
+ * Записи ограничены по количеству и времени жизни ({@code app.taskCacheMaxSize}, {@code app.taskCacheTtlSeconds})
+ * и сбрасываются после фиксации любого изменения задачи или ее комментариев. Загрузка выполняется атомарно
+ * для ключа, поэтому сброс во время загрузки не оставляет в кэше устаревшую задачу.
+ * Кэшированные DTO общие для всех запросов и не должны изменяться.
+ * Статистика публикуется в метриках {@code cache.*{cache=tasksById}}.
+ */
+@Component
+public class TaskCache {
+
+    private final Cache<Long, TaskDTO> tasksById;
+
+    /**
+     * Конструктор кэша.
+     *
+     * @param maxSize       максимальное число задач в кэше.
+     * @param ttlSeconds    время жизни записи в секундах.
+     * @param meterRegistry реестр метрик для публикации статистики кэша.
+     */
+    @Autowired
+    public TaskCache(@Value("${app.taskCacheMaxSize:10000}") long maxSize,
+                     @Value("${app.taskCacheTtlSeconds:300}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        this(maxSize, ttlSeconds);
+        CaffeineCacheMetrics.monitor(meterRegistry, tasksById, "tasksById");
+    }
+
+    TaskCache(long maxSize, long ttlSeconds) {
+        this.tasksById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Возвращает задачу из кэша или загружает ее.
+     *
+     * @param id     идентификатор задачи.
+     * @param loader функция загрузки задачи при промахе; исключение загрузки передается вызывающему.
+     * @return DTO задачи.
+     */
+    public TaskDTO getById(Long id, Function<Long, TaskDTO> loader) {
+        return tasksById.get(id, loader);
+    }
+
+    /**
+     * Сбрасывает задачу, если в кэше лежит версия, отличная от текущей версии в базе.
+     * Так изменения, сделанные на другом узле, видны сразу, а не после истечения времени жизни.
+     *
+     * @param id      идентификатор задачи.
+     * @param version текущая версия задачи в базе.
+     */
+    public void evictIfStale(Long id, Long version) {
+        TaskDTO cached = tasksById.getIfPresent(id);
+        if (cached != null && !version.equals(cached.getVersion())) {
+            tasksById.invalidate(id);
+        }
+    }
+
+    /**
+     * Сбрасывает задачу после фиксации текущей транзакции. Вне транзакции задача сбрасывается сразу.
+     *
+     * @param id идентификатор задачи.
+     */
+    public void invalidateAfterCommit(Long id) {
+        TransactionUtils.afterCommit(() -> tasksById.invalidate(id));
+    }
+}
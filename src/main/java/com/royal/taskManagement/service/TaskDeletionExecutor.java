@@ -0,0 +1,124 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.exception.ServiceOverloadedException;
+import com.royal.taskManagement.repository.CommentRepository;
+import com.royal.taskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Фоновое удаление задач с большим количеством комментариев.
+ * Комментарии удаляются пачками по {@code app.taskDeletionBatchSize}, каждая пачка в отдельной короткой транзакции,
+ * затем оставшиеся комментарии и сама задача удаляются в одной транзакции.
+ * Завершающая транзакция при ошибке конкурентного доступа (например, взаимной блокировке с добавлением комментария)
+ * повторяется через {@link ConflictRetry}. Если удаление все же не удалось, уже удаленные пачки комментариев
+ * не восстанавливаются, задача остается, и удаление можно запросить повторно: каждый шаг идемпотентен.
+ * Неудачные удаления публикуются в метрике {@code task.deletion.failures}.
+ * Удаление выполняется в одном потоке, очередь ограничена {@code app.taskDeletionQueueCapacity}.
+ */
+@Component
+public class TaskDeletionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDeletionExecutor.class);
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TaskCache taskCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflictRetry conflictRetry;
+    private final Counter failures;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+
+    /**
+     * Конструктор исполнителя.
+     *
+     * @param taskRepository      репозиторий задач.
+     * @param commentRepository   репозиторий комментариев.
+     * @param taskCache           кэш задач.
+     * @param transactionTemplate шаблон транзакции для завершающего удаления задачи.
+     * @param conflictRetry       повтор завершающей транзакции при ошибке конкурентного доступа.
+     * @param meterRegistry       реестр метрик.
+     * @param batchSize           размер пачки удаляемых комментариев.
+     * @param queueCapacity       максимальное число задач, ожидающих удаления.
+     * @param retryAfterSeconds   рекомендуемое клиенту время ожидания при переполнении очереди.
+     */
+    public TaskDeletionExecutor(TaskRepository taskRepository, CommentRepository commentRepository, TaskCache taskCache,
+                                TransactionTemplate transactionTemplate, ConflictRetry conflictRetry,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.taskDeletionBatchSize:1000}") int batchSize,
+                                @Value("${app.taskDeletionQueueCapacity:100}") int queueCapacity,
+                                @Value("${app.taskDeletionRetryAfterSeconds:10}") long retryAfterSeconds) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.taskCache = taskCache;
+        this.transactionTemplate = transactionTemplate;
+        this.conflictRetry = conflictRetry;
+        this.failures = Counter.builder("task.deletion.failures").register(meterRegistry);
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("task-deletion-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Ставит удаление задачи в очередь.
+     *
+     * @param taskId идентификатор задачи.
+     * @throws ServiceOverloadedException если очередь удаления переполнена.
+     */
+    public void submit(Long taskId) {
+        try {
+            executor.execute(() -> delete(taskId));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Очередь удаления задач переполнена", retryAfterSeconds, e);
+        }
+    }
+
+    /**
+     * Удаляет комментарии задачи пачками, затем задачу.
+     *
+     * @param taskId идентификатор задачи.
+     */
+    void delete(Long taskId) {
+        try {
+            long comments = 0;
+            int deleted;
+            do {
+                deleted = commentRepository.deleteBatchByTaskId(taskId, batchSize);
+                comments += deleted;
+            } while (deleted > 0);
+            conflictRetry.run(() -> transactionTemplate.execute(status -> {
+                commentRepository.deleteAllByTaskId(taskId);
+                taskCache.invalidateAfterCommit(taskId);
+                return taskRepository.deleteRowById(taskId);
+            }));
+            logger.info("Задача {} удалена в фоне, удалено комментариев: {}", taskId, comments);
+        } catch (Exception e) {
+            failures.increment();
+            logger.error("Ошибка фонового удаления задачи {}", taskId, e);
+        }
+    }
+
+    /**
+     * Останавливает пул при завершении приложения.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.entity.User;
+
+import java.io.OutputStream;
+
+/**
+ * Сервис для потоковой выгрузки задач.
+ * Задачи читаются однонаправленным курсором и сразу пишутся в выходной поток,
+ * поэтому потребление памяти не зависит от количества задач.
+ * Администратор выгружает все задачи, остальные пользователи — задачи, где они автор или исполнитель.
+ */
+public interface TaskExportService {
+
+    /**
+     * Выгружает задачи в формате NDJSON: один JSON-объект на строку.
+     *
+     * @param user пользователь, запрашивающий выгрузку.
+     * @param out  выходной поток ответа; не закрывается.
+     */
+    void exportAsNdjson(User user, OutputStream out);
+
+    /**
+     * Выгружает задачи в формате CSV (RFC 4180) с заголовком.
+     *
+     * @param user пользователь, запрашивающий выгрузку.
+     * @param out  выходной поток ответа; не закрывается.
+     */
+    void exportAsCsv(User user, OutputStream out);
+}
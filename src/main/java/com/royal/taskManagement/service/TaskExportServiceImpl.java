@@ -0,0 +1,136 @@
+package com.royal.taskManagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.royal.taskManagement.dto.TaskExportDTO;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.exception.CustomServiceException;
+import com.royal.taskManagement.repository.TaskRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskExportServiceImpl.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TaskRepository taskRepository;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public TaskExportServiceImpl(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(TaskExportDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    @Transactional
+    public void exportAsNdjson(User user, OutputStream out) {
+        long started = System.nanoTime();
+        long count = 0;
+        try (Stream<TaskExportDTO> rows = streamFor(user)) {
+            Writer writer = bufferedWriter(out);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+            for (Iterator<TaskExportDTO> it = rows.iterator(); it.hasNext(); count++) {
+                rowWriter.writeValue(generator, it.next());
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+            writer.flush();
+        } catch (Exception e) {
+            logger.error("Ошибка выгрузки задач в NDJSON после {} строк: {}", count, e.getMessage());
+            throw new CustomServiceException("Ошибка выгрузки задач", e);
+        }
+        logger.info("Выгружено {} задач в NDJSON за {} мс", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    @Transactional
+    public void exportAsCsv(User user, OutputStream out) {
+        long started = System.nanoTime();
+        long count = 0;
+        try (Stream<TaskExportDTO> rows = streamFor(user)) {
+            Writer writer = bufferedWriter(out);
+            writer.write(TaskExportDTO.CSV_HEADER);
+            writer.write("\r\n");
+            for (Iterator<TaskExportDTO> it = rows.iterator(); it.hasNext(); count++) {
+                writeCsvRow(writer, it.next());
+            }
+            writer.flush();
+        } catch (Exception e) {
+            logger.error("Ошибка выгрузки задач в CSV после {} строк: {}", count, e.getMessage());
+            throw new CustomServiceException("Ошибка выгрузки задач", e);
+        }
+        logger.info("Выгружено {} задач в CSV за {} мс", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private Stream<TaskExportDTO> streamFor(User user) {
+        if (user.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN"))) {
+            return taskRepository.streamAllForExport();
+        }
+        return taskRepository.streamVisibleForExport(user.getId());
+    }
+
+    private static Writer bufferedWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static void writeCsvRow(Writer writer, TaskExportDTO row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writeCsvField(writer, row.getTitle());
+        writer.write(',');
+        writeCsvField(writer, row.getDescription());
+        writer.write(',');
+        writeCsvField(writer, row.getStatus() != null ? row.getStatus().name() : null);
+        writer.write(',');
+        writeCsvField(writer, row.getPriority() != null ? row.getPriority().name() : null);
+        writer.write(',');
+        writeCsvField(writer, row.getAuthorId() != null ? row.getAuthorId().toString() : null);
+        writer.write(',');
+        writeCsvField(writer, row.getAssigneeId() != null ? row.getAssigneeId().toString() : null);
+        writer.write("\r\n");
+    }
+
+    /**
+     * Пишет поле CSV, заключая его в кавычки, если оно содержит разделитель, кавычку или перевод строки.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
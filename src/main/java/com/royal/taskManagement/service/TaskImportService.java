@@ -0,0 +1,44 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskImportReportDTO;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.exception.TaskImportAbortedException;
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
+
+import java.io.InputStream;
+
+/**
+ * Сервис для массового импорта задач.
+ * Входные данные читаются потоком и проверяются построчно, корректные строки накапливаются пачками.
+ * Для каждой пачки авторы и исполнители проверяются одним запросом, после чего пачка загружается
+ * в PostgreSQL командой {@code COPY}. Каждая пачка фиксируется отдельно: если импорт прерван ошибкой чтения
+ * или загрузки, уже загруженные пачки остаются, а {@link TaskImportAbortedException} содержит отчет
+ * с их количеством и первой незагруженной строкой.
+ */
+public interface TaskImportService {
+
+    /**
+     * Импортирует задачи из NDJSON: один JSON-объект на строку с полями
+     * title, description, status, priority, assigneeId и необязательным authorId.
+     *
+     * @param in       входной поток тела запроса.
+     * @param importer пользователь, выполняющий импорт; становится автором, если authorId не указан.
+     * @return отчет об импорте.
+     * @throws TaskImportAbortedException   если импорт прерван после загрузки части пачек.
+     * @throws UnsupportedDatabaseException если база данных не PostgreSQL.
+     */
+    TaskImportReportDTO importNdjson(InputStream in, User importer);
+
+    /**
+     * Импортирует задачи из CSV с заголовком. Обязательны колонки title, status и priority,
+     * необязательны description, assigneeId и authorId; порядок колонок произвольный.
+     *
+     * @param in       входной поток тела запроса.
+     * @param importer пользователь, выполняющий импорт; становится автором, если authorId не указан.
+     * @return отчет об импорте.
+     * @throws IllegalArgumentException     если в заголовке нет обязательных колонок.
+     * @throws TaskImportAbortedException   если импорт прерван после загрузки части пачек.
+     * @throws UnsupportedDatabaseException если база данных не PostgreSQL.
+     */
+    TaskImportReportDTO importCsv(InputStream in, User importer);
+}
@@ -0,0 +1,392 @@
+package com.royal.taskManagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.royal.taskManagement.dto.TaskImportErrorDTO;
+import com.royal.taskManagement.dto.TaskImportReportDTO;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.CustomServiceException;
+import com.royal.taskManagement.exception.TaskImportAbortedException;
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
+import com.royal.taskManagement.repository.UserRepository;
+import com.royal.taskManagement.utils.CsvRecordReader;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    private static final String COLUMNS = "id, title, description, status, priority, author_id, assignee_id, version";
+    private static final String COPY_SQL = "COPY task (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String RESERVE_IDS_SQL = "SELECT nextval('task_seq') FROM generate_series(1, ?)";
+
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+    private volatile Boolean postgres;
+
+    @Autowired
+    public TaskImportServiceImpl(DataSource dataSource, JdbcTemplate jdbcTemplate, UserRepository userRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.taskImportBatchSize:5000}") int batchSize,
+                                 @Value("${app.taskImportMaxErrors:1000}") int maxErrors) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public TaskImportReportDTO importNdjson(InputStream in, User importer) {
+        requirePostgres();
+        ImportRun run = new ImportRun(importer);
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                run.row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+                    if (node == null || !node.isObject()) {
+                        throw new IllegalArgumentException("Ожидается JSON-объект");
+                    }
+                    accept(run, text(node, "title"), text(node, "description"), text(node, "status"),
+                            text(node, "priority"), text(node, "authorId"), text(node, "assigneeId"));
+                } catch (JsonProcessingException e) {
+                    run.reject(run.row, "Некорректный JSON: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    run.reject(run.row, e.getMessage());
+                }
+            }
+            flush(run);
+            return run.finish("NDJSON");
+        } catch (Exception e) {
+            throw run.abort("NDJSON", e);
+        }
+    }
+
+    @Override
+    public TaskImportReportDTO importCsv(InputStream in, User importer) {
+        requirePostgres();
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        Map<String, Integer> columns;
+        try {
+            columns = csvColumns(reader.next());
+        } catch (IOException e) {
+            throw new CustomServiceException("Ошибка чтения заголовка CSV", e);
+        }
+        ImportRun run = new ImportRun(importer);
+        try {
+            for (List<String> record = reader.next(); record != null; record = reader.next()) {
+                run.row++;
+                if (record.size() == 1 && record.get(0) == null) {
+                    continue;
+                }
+                try {
+                    accept(run, field(record, columns, "title"), field(record, columns, "description"),
+                            field(record, columns, "status"), field(record, columns, "priority"),
+                            field(record, columns, "authorId"), field(record, columns, "assigneeId"));
+                } catch (IllegalArgumentException e) {
+                    run.reject(run.row, e.getMessage());
+                }
+            }
+            flush(run);
+            return run.finish("CSV");
+        } catch (Exception e) {
+            throw run.abort("CSV", e);
+        }
+    }
+
+    /**
+     * Проверяет строку и добавляет ее в текущую пачку; при заполнении пачки загружает ее.
+     */
+    private void accept(ImportRun run, String title, String description, String status,
+                        String priority, String authorId, String assigneeId) throws SQLException {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Заголовок не может быть пустым");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Заголовок должен быть менее 100 символов");
+        }
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Описание должно быть меньше 1000 символов");
+        }
+
+        Row row = new Row();
+        row.number = run.row;
+        row.title = title;
+        row.description = description;
+        row.status = parseEnum(TaskStatus.class, status, "Статус");
+        row.priority = parseEnum(TaskPriority.class, priority, "Приоритет");
+        row.authorId = authorId != null ? parseId(authorId, "автора") : run.importer.getId();
+        row.assigneeId = assigneeId != null ? parseId(assigneeId, "исполнителя") : null;
+
+        run.pending.add(row);
+        if (run.pending.size() >= batchSize) {
+            flush(run);
+        }
+    }
+
+    /**
+     * Проверяет авторов и исполнителей пачки одним запросом и загружает корректные строки.
+     * Пачка убирается из текущей только после загрузки, чтобы при сбое она считалась незагруженной.
+     */
+    private void flush(ImportRun run) throws SQLException {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = new HashSet<>();
+        for (Row row : run.pending) {
+            userIds.add(row.authorId);
+            if (row.assigneeId != null) {
+                userIds.add(row.assigneeId);
+            }
+        }
+        Set<Long> existing = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        List<Row> valid = new ArrayList<>(run.pending.size());
+        List<TaskImportErrorDTO> rejected = new ArrayList<>();
+        for (Row row : run.pending) {
+            if (!existing.contains(row.authorId)) {
+                rejected.add(new TaskImportErrorDTO(row.number, "Автор не найден: " + row.authorId));
+            } else if (row.assigneeId != null && !existing.contains(row.assigneeId)) {
+                rejected.add(new TaskImportErrorDTO(row.number, "Исполнитель не найден: " + row.assigneeId));
+            } else {
+                valid.add(row);
+            }
+        }
+        if (!valid.isEmpty()) {
+            write(valid);
+        }
+        run.pending.clear();
+        run.imported += valid.size();
+        rejected.forEach(error -> run.reject(error.getRow(), error.getMessage()));
+    }
+
+    /**
+     * Загружает пачку командой COPY с заранее зарезервированными id.
+     */
+    private void write(List<Row> rows) throws SQLException {
+        List<Long> ids = reserveIds(rows.size());
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(toCopyCsv(rows, ids)));
+        } catch (IOException e) {
+            throw new SQLException("Ошибка передачи данных COPY", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Резервирует идентификаторы блоками последовательности одним запросом: каждое значение nextval v
+     * выделяет блок (v - {@link Task#ID_ALLOCATION_SIZE}, v], как pooled-оптимизатор Hibernate для {@link Task}.
+     */
+    private List<Long> reserveIds(int count) {
+        int block = Task.ID_ALLOCATION_SIZE;
+        List<Long> blocks = jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, (count + block - 1) / block);
+        List<Long> ids = new ArrayList<>(blocks.size() * block);
+        for (Long hi : blocks) {
+            for (long id = hi - block + 1; id <= hi; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Формирует данные для COPY в формате CSV. Текст всегда в кавычках, чтобы пустая строка
+     * не превратилась в NULL; отсутствующие значения передаются пустым полем без кавычек.
+     */
+    private static String toCopyCsv(List<Row> rows, List<Long> ids) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            csv.append(ids.get(i)).append(',');
+            appendQuoted(csv, row.title).append(',');
+            if (row.description != null) {
+                appendQuoted(csv, row.description);
+            }
+            csv.append(',').append(row.status.name())
+                    .append(',').append(row.priority.name())
+                    .append(',').append(row.authorId)
+                    .append(',');
+            if (row.assigneeId != null) {
+                csv.append(row.assigneeId);
+            }
+            csv.append(",0\n");
+        }
+        return csv.toString();
+    }
+
+    private void requirePostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isWrapperFor(PGConnection.class));
+            postgres = result;
+        }
+        if (!result) {
+            throw new UnsupportedDatabaseException("Импорт задач поддерживается только на PostgreSQL");
+        }
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static Map<String, Integer> csvColumns(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Отсутствует заголовок CSV");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i) != null) {
+                columns.put(header.get(i).trim().replace("\uFEFF", ""), i);
+            }
+        }
+        for (String required : List.of("title", "status", "priority")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("В заголовке CSV нет колонки " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index != null && index < record.size() ? record.get(index) : null;
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " не может быть null");
+        }
+        try {
+            return Enum.valueOf(type, value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " некорректен: " + value);
+        }
+    }
+
+    private static Long parseId(String value, String name) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный идентификатор " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Проверенная строка импорта.
+     */
+    private static final class Row {
+        private long number;
+        private String title;
+        private String description;
+        private TaskStatus status;
+        private TaskPriority priority;
+        private Long authorId;
+        private Long assigneeId;
+    }
+
+    /**
+     * Состояние одного импорта: номер текущей строки, текущая пачка, счетчики и ограниченный список ошибок.
+     */
+    private final class ImportRun {
+        private final User importer;
+        private final long started = System.nanoTime();
+        private final List<Row> pending = new ArrayList<>(batchSize);
+        private final TaskImportReportDTO report = new TaskImportReportDTO();
+        private long row;
+        private long imported;
+        private long rejected;
+
+        private ImportRun(User importer) {
+            this.importer = importer;
+        }
+
+        private void reject(long rowNumber, String message) {
+            rejected++;
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new TaskImportErrorDTO(rowNumber, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+
+        private TaskImportReportDTO finish(String format) {
+            summarize();
+            logger.info("Импортировано {} задач из {} за {} мс ({} строк/с), отклонено {}",
+                    imported, format, report.getElapsedMillis(), Math.round(report.getRowsPerSecond()), rejected);
+            return report;
+        }
+
+        /**
+         * Завершает прерванный импорт: отчет описывает загруженные пачки и первую незагруженную строку —
+         * начало текущей пачки или строку, следующую за последней прочитанной.
+         */
+        private TaskImportAbortedException abort(String format, Exception cause) {
+            long firstNotLoaded = pending.isEmpty() ? row + 1 : pending.get(0).number;
+            report.setFailure(new TaskImportErrorDTO(firstNotLoaded, cause.getMessage()));
+            summarize();
+            logger.error("Импорт задач из {} прерван на строке {} после загрузки {} задач: {}",
+                    format, firstNotLoaded, imported, cause.getMessage());
+            return new TaskImportAbortedException(report, cause);
+        }
+
+        private void summarize() {
+            long elapsedNanos = System.nanoTime() - started;
+            report.setImported(imported);
+            report.setRejected(rejected);
+            report.setElapsedMillis(elapsedNanos / 1_000_000);
+            report.setRowsPerSecond(elapsedNanos > 0 ? imported * 1_000_000_000.0 / elapsedNanos : 0);
+        }
+    }
+}
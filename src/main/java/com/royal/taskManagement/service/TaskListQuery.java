@@ -0,0 +1,127 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskFilterDTO;
+
+import java.util.Locale;
+
+/**
+ * Неизменяемые параметры выборки списка задач: чьи задачи выбираются, как выбирается страница,
+ * нужны ли комментарии и какие условия фильтра применяются.
+ * Создается из параметров запроса методом {@link #of}, который отклоняет неизвестные значения
+ * и неподдерживаемые сочетания параметров.
+ */
+public final class TaskListQuery {
+
+    /**
+     * Чьи задачи выбираются.
+     */
+    public enum Scope {
+        /**
+         * Задачи, автором которых является пользователь.
+         */
+        AUTHOR,
+        /**
+         * Задачи, назначенные пользователю.
+         */
+        ASSIGNEE,
+        /**
+         * Задачи, где пользователь автор или исполнитель; администратор видит все задачи.
+         */
+        VISIBLE
+    }
+
+    /**
+     * Как подсчитывается общее количество задач.
+     */
+    public enum Total {
+        /**
+         * Точное количество отдельным запросом COUNT.
+         */
+        EXACT,
+        /**
+         * Без общего количества: срез с признаком наличия следующей страницы.
+         */
+        NONE,
+        /**
+         * Оценка из статистики базы данных для администратора; остальным пользователям — точное количество.
+         */
+        APPROXIMATE
+    }
+
+    private final Scope scope;
+    private final TaskFilterDTO filter;
+    private final boolean includeComments;
+    private final Total total;
+    private final String cursor;
+
+    private TaskListQuery(Scope scope, TaskFilterDTO filter, boolean includeComments, Total total, String cursor) {
+        this.scope = scope;
+        this.filter = filter;
+        this.includeComments = includeComments;
+        this.total = total;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Создает параметры выборки из параметров запроса.
+     *
+     * @param scope   чьи задачи выбираются.
+     * @param include "comments", чтобы вернуть задачи целиком с комментариями, или null.
+     * @param cursor  курсор страницы или null для выборки по номеру страницы; пустая строка — первая страница по курсору.
+     * @param total   "exact", "none", "approximate" или null (exact).
+     * @param filter  условия отбора или null.
+     * @return параметры выборки.
+     * @throws IllegalArgumentException если значение параметра неизвестно или сочетание параметров не поддерживается.
+     */
+    public static TaskListQuery of(Scope scope, String include, String cursor, String total, TaskFilterDTO filter) {
+        if (include != null && !include.equalsIgnoreCase("comments")) {
+            throw new IllegalArgumentException("Неизвестное значение include: " + include);
+        }
+        Total totalMode = parseTotal(total);
+        if (cursor != null && total != null && totalMode != Total.NONE) {
+            throw new IllegalArgumentException("Страница по курсору не подсчитывает общее количество, total=" + total
+                    + " не поддерживается");
+        }
+        TaskFilterDTO conditions = filter != null ? filter : new TaskFilterDTO();
+        if (totalMode == Total.APPROXIMATE && (scope != Scope.VISIBLE || !conditions.isEmpty())) {
+            throw new IllegalArgumentException("total=approximate поддерживается только для списка всех задач без фильтров");
+        }
+        return new TaskListQuery(scope, conditions, include != null, totalMode, cursor);
+    }
+
+    private static Total parseTotal(String total) {
+        if (total == null) {
+            return Total.EXACT;
+        }
+        try {
+            return Total.valueOf(total.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Неизвестное значение total: " + total);
+        }
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public TaskFilterDTO getFilter() {
+        return filter;
+    }
+
+    public boolean includesComments() {
+        return includeComments;
+    }
+
+    public Total getTotal() {
+        return total;
+    }
+
+    /**
+     * Возвращает курсор страницы.
+     *
+     * @return курсор или null, если страница выбирается по номеру.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -1,12 +1,15 @@
 package com.royal.taskManagement.service;
 
 import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskListResponse;
+import com.royal.taskManagement.dto.TaskSummaryDTO;
 import com.royal.taskManagement.entity.Task;
 import com.royal.taskManagement.entity.User;
 import com.royal.taskManagement.entity.enums.TaskPriority;
 import com.royal.taskManagement.entity.enums.TaskStatus;
-import org.springframework.data.domain.Page;
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 
 /**
@@ -27,6 +30,8 @@ public interface TaskService {
 
     /**
      * Получает задачу по ID.
+     * Задача, найденная в локальном кэше, возвращается без обращения к базе; изменения, сделанные на другом узле,
+     * видны после истечения времени жизни записи или после проверки версии методом {@link #getTaskVersion}.
      *
      * @param id   ID задачи.
      * @param user пользователь, запрашивающий задачу.
@@ -34,6 +39,16 @@ public interface TaskService {
      */
     TaskDTO getTaskById(Long id, User user);
 
+    /**
+     * Возвращает текущую версию задачи для ETag условного запроса, не загружая саму задачу.
+     * Если в кэше лежит другая версия задачи, она сбрасывается, и следующий {@link #getTaskById} загрузит актуальную.
+     *
+     * @param id   ID задачи.
+     * @param user пользователь, запрашивающий задачу.
+     * @return версия задачи.
+     */
+    Long getTaskVersion(Long id, User user);
+
     /**
      * Обновляет информацию о задаче.
      *
@@ -45,13 +60,40 @@ public interface TaskService {
     TaskDTO updateTask(Long id, TaskDTO taskDTO, User user);
 
     /**
-     * Удаляет задачу по ID.
+     * Обновляет информацию о задаче, если ее версия совпадает с ожидаемой.
+     *
+     * @param id              ID задачи, которую нужно обновить.
+     * @param taskDTO         объект DTO с обновленными данными задачи.
+     * @param user            пользователь, обновляющий задачу.
+     * @param expectedVersion ожидаемая версия задачи из {@code If-Match} или null, если версия не проверяется.
+     * @return объект DTO, представляющий обновленную задачу.
+     * @throws com.royal.taskManagement.exception.PreconditionFailedException если версия задачи изменилась.
+     * @throws com.royal.taskManagement.exception.ConflictException если задачу изменил другой запрос
+     *                                                              между чтением и сохранением.
+     */
+    TaskDTO updateTask(Long id, TaskDTO taskDTO, User user, Long expectedVersion);
+
+    /**
+     * Удаляет задачу по ID. Комментарии задачи и сама задача удаляются двумя запросами в одной транзакции,
+     * без загрузки задачи и комментариев.
      *
      * @param id   ID задачи, которую нужно удалить.
      * @param user пользователь, удаляющий задачу.
+     * @throws com.royal.taskManagement.exception.ResourceNotFoundException если задача не найдена.
      */
     void deleteTask(Long id, User user);
 
+    /**
+     * Ставит удаление задачи в фоновую очередь. Комментарии удаляются пачками в коротких транзакциях,
+     * поэтому удаление задачи с большим количеством комментариев не удерживает блокировки надолго.
+     *
+     * @param id   ID задачи, которую нужно удалить.
+     * @param user пользователь, удаляющий задачу.
+     * @throws com.royal.taskManagement.exception.ResourceNotFoundException если задача не найдена.
+     * @throws com.royal.taskManagement.exception.ServiceOverloadedException если очередь удаления переполнена.
+     */
+    void deleteTaskAsync(Long id, User user);
+
     /**
      * Назначает задачу конкретному исполнителю.
      *
@@ -62,6 +104,22 @@ public interface TaskService {
      */
     TaskDTO assignTask(Long id, Long assigneeId, User user);
 
+    /**
+     * Назначает задачу конкретному исполнителю, если ее версия совпадает с ожидаемой.
+     * Изменение выполняется одним запросом без загрузки задачи, поэтому комментарии в ответ не входят.
+     * При ошибке одновременного доступа к задаче изменение автоматически повторяется ограниченное число раз.
+     * Если задача или исполнитель не найдены, выбрасывается {@link com.royal.taskManagement.exception.ResourceNotFoundException}.
+     *
+     * @param id              ID задачи.
+     * @param assigneeId      ID пользователя-исполнителя.
+     * @param user            пользователь, назначающий исполнителя.
+     * @param expectedVersion ожидаемая версия задачи или null, если версия не проверяется.
+     * @return объект DTO, представляющий задачу с обновленным исполнителем, без комментариев.
+     * @throws com.royal.taskManagement.exception.ConflictException если изменение не удалось применить
+     *                                                              за ограниченное число повторов.
+     */
+    TaskDTO assignTask(Long id, Long assigneeId, User user, Long expectedVersion);
+
     /**
      * Обновляет статус задачи.
      *
@@ -72,6 +130,22 @@ public interface TaskService {
      */
     TaskDTO updateTaskStatus(Long id, TaskStatus status, User user);
 
+    /**
+     * Обновляет статус задачи, если ее версия совпадает с ожидаемой.
+     * Изменение выполняется одним запросом без загрузки задачи, поэтому комментарии в ответ не входят.
+     * При ошибке одновременного доступа к задаче изменение автоматически повторяется ограниченное число раз.
+     * Если задача не найдена, выбрасывается {@link com.royal.taskManagement.exception.ResourceNotFoundException}.
+     *
+     * @param id              ID задачи.
+     * @param status          новый статус задачи.
+     * @param user            пользователь, обновляющий статус.
+     * @param expectedVersion ожидаемая версия задачи или null, если версия не проверяется.
+     * @return объект DTO, представляющий задачу с обновленным статусом, без комментариев.
+     * @throws com.royal.taskManagement.exception.ConflictException если изменение не удалось применить
+     *                                                              за ограниченное число повторов.
+     */
+    TaskDTO updateTaskStatus(Long id, TaskStatus status, User user, Long expectedVersion);
+
     /**
      * Обновляет приоритет задачи.
      *
@@ -83,32 +157,50 @@ public interface TaskService {
     TaskDTO updateTaskPriority(Long id, TaskPriority priority, User user);
 
     /**
-     * Получает задачи, автором которых является указанный пользователь.
+     * Обновляет приоритет задачи, если ее версия совпадает с ожидаемой.
+     * Изменение выполняется одним запросом без загрузки задачи, поэтому комментарии в ответ не входят.
+     * При ошибке одновременного доступа к задаче изменение автоматически повторяется ограниченное число раз.
+     * Если задача не найдена, выбрасывается {@link com.royal.taskManagement.exception.ResourceNotFoundException}.
      *
-     * @param author   пользователь, который является автором задач.
-     * @param pageable параметры для постраничного отображения задач.
-     * @return страница задач, созданных указанным пользователем.
+     * @param id              ID задачи.
+     * @param priority        новый приоритет задачи.
+     * @param user            пользователь, обновляющий приоритет.
+     * @param expectedVersion ожидаемая версия задачи или null, если версия не проверяется.
+     * @return объект DTO, представляющий задачу с обновленным приоритетом, без комментариев.
+     * @throws com.royal.taskManagement.exception.ConflictException если изменение не удалось применить
+     *                                                              за ограниченное число повторов.
      */
-    Page<TaskDTO> getTasksByAuthor(User author, Pageable pageable);
+    TaskDTO updateTaskPriority(Long id, TaskPriority priority, User user, Long expectedVersion);
 
     /**
-     * Получает задачи, назначенные указанному пользователю.
+     * Получает список задач одним из способов постраничной выборки.
+     * Условия отбора, способ выборки и состав элементов задаются {@link TaskListQuery}:
+     * страница с точным или приблизительным общим количеством, срез без общего количества или страница по курсору;
+     * элементы — краткие описания задач с количеством комментариев или задачи целиком с комментариями.
      *
-     * @param assignee пользователь, которому назначены задачи.
-     * @param pageable параметры для постраничного отображения задач.
-     * @return страница задач, назначенных указанному пользователю.
+     * @param user     текущий пользователь.
+     * @param query    параметры выборки.
+     * @param pageable номер, размер страницы и сортировка; для выборки по курсору номер страницы не используется.
+     * @return {@link com.royal.taskManagement.dto.PageDTO} при подсчете общего количества,
+     * {@link com.royal.taskManagement.dto.SliceDTO} без общего количества
+     * или {@link com.royal.taskManagement.dto.CursorPageDTO} при выборке по курсору;
+     * элементы — {@link TaskSummaryDTO} или {@link TaskDTO}.
+     * @throws IllegalArgumentException если курсор некорректен.
      */
-    Page<TaskDTO> getTasksByAssignee(User assignee, Pageable pageable);
+    TaskListResponse<?> listTasks(User user, TaskListQuery query, Pageable pageable);
 
     /**
-     * Получает задачи, автором или исполнителем которых является указанный пользователь.
+     * Ищет задачи по заголовку и описанию. Результаты упорядочены по релевантности;
+     * администратор ищет по всем задачам, остальные пользователи — по задачам, где они автор или исполнитель.
      *
-     * @param author   пользователь, который является автором задач.
-     * @param assignee пользователь, которому назначены задачи.
-     * @param pageable параметры для постраничного отображения задач.
-     * @return страница задач, где пользователь является автором или исполнителем.
+     * @param query    поисковый запрос.
+     * @param user     текущий пользователь.
+     * @param pageable номер и размер страницы.
+     * @return срез кратких описаний задач без подсчета общего количества.
+     * @throws IllegalArgumentException     если запрос пустой.
+     * @throws UnsupportedDatabaseException если база данных не PostgreSQL.
      */
-    Page<TaskDTO> getTasksByAuthorOrAssignee(User author, User assignee, Pageable pageable);
+    Slice<TaskSummaryDTO> searchTasks(String query, User user, Pageable pageable);
 
     /**
      * Преобразует сущность задачи в объект DTO.
@@ -1,36 +1,71 @@
 package com.royal.taskManagement.service;
 
 import com.royal.taskManagement.dto.CommentDTO;
+import com.royal.taskManagement.dto.CursorPageDTO;
+import com.royal.taskManagement.dto.PageDTO;
+import com.royal.taskManagement.dto.SliceDTO;
+import com.royal.taskManagement.dto.TaskAccessDTO;
 import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskListResponse;
+import com.royal.taskManagement.dto.TaskSummaryDTO;
 import com.royal.taskManagement.entity.Comment;
 import com.royal.taskManagement.entity.Task;
 import com.royal.taskManagement.entity.User;
 import com.royal.taskManagement.entity.enums.TaskPriority;
 import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.ConflictException;
 import com.royal.taskManagement.exception.CustomServiceException;
+import com.royal.taskManagement.exception.PreconditionFailedException;
+import com.royal.taskManagement.exception.ResourceNotFoundException;
+import com.royal.taskManagement.repository.CommentRepository;
 import com.royal.taskManagement.repository.TaskRepository;
+import com.royal.taskManagement.repository.TaskSpecifications;
 import com.royal.taskManagement.repository.UserRepository;
+import com.royal.taskManagement.utils.TaskCursor;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final TaskCache taskCache;
+    private final TaskDeletionExecutor taskDeletionExecutor;
+    private final ConflictRetry conflictRetry;
 
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository, CommentRepository commentRepository,
+                           TaskCache taskCache, TaskDeletionExecutor taskDeletionExecutor, ConflictRetry conflictRetry) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.commentRepository = commentRepository;
+        this.taskCache = taskCache;
+        this.taskDeletionExecutor = taskDeletionExecutor;
+        this.conflictRetry = conflictRetry;
     }
 
     @Override
@@ -60,25 +95,50 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public TaskDTO getTaskById(Long id, User currentUser) {
         try {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
+            TaskDTO task = taskCache.getById(id, taskId -> taskRepository.findById(taskId)
+                    .map(this::convertToDTO)
+                    .orElseThrow(() -> new CustomServiceException("Задача не найдена")));
 
             if (!isUserAuthorizedToViewTask(task, currentUser)) {
                 throw new CustomServiceException("Вы не имеете роли для просмотра этой задачи");
             }
 
-            return convertToDTO(task);
+            return task;
         } catch (Exception e) {
             logger.error("Ошибка при выборе задачи по id {}: {}", id, e.getMessage());
             throw new CustomServiceException("Ошибка при выборе задачи по id", e);
         }
     }
 
+    @Override
+    public Long getTaskVersion(Long id, User currentUser) {
+        try {
+            TaskAccessDTO task = taskRepository.findVersionWithParticipantsById(id)
+                    .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
+
+            if (!task.isParticipant(currentUser.getId()) && !isAdmin(currentUser)) {
+                throw new CustomServiceException("Вы не имеете роли для просмотра этой задачи");
+            }
+
+            taskCache.evictIfStale(id, task.getVersion());
+            return task.getVersion();
+        } catch (Exception e) {
+            logger.error("Ошибка при получении версии задачи {}: {}", id, e.getMessage());
+            throw new CustomServiceException("Ошибка при получении версии задачи", e);
+        }
+    }
+
     @Override
     public TaskDTO updateTask(Long id, TaskDTO taskDTO, User user) {
+        return updateTask(id, taskDTO, user, null);
+    }
+
+    @Override
+    public TaskDTO updateTask(Long id, TaskDTO taskDTO, User user, Long expectedVersion) {
         try {
             Task task = taskRepository.findById(id)
                     .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
+            checkVersion(task, expectedVersion);
 
             task.setTitle(taskDTO.getTitle());
             task.setDescription(taskDTO.getDescription());
@@ -92,7 +152,12 @@ public class TaskServiceImpl implements TaskService {
             }
 
             Task updatedTask = taskRepository.save(task);
+            taskCache.invalidateAfterCommit(id);
             return convertToDTO(updatedTask);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflictException("Задача была изменена другим запросом", e);
+        } catch (PreconditionFailedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Ошибка обновления задачи {}: {}", id, e.getMessage());
             throw new CustomServiceException("Ошибка обновления задачи", e);
@@ -100,11 +165,16 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id, User user) {
         try {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
-            taskRepository.delete(task);
+            commentRepository.deleteAllByTaskId(id);
+            if (taskRepository.deleteRowById(id) == 0) {
+                throw new ResourceNotFoundException("Задача не найдена");
+            }
+            taskCache.invalidateAfterCommit(id);
+        } catch (ResourceNotFoundException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error deleting task {}: {}", id, e.getMessage());
             throw new CustomServiceException("Failed to delete task", e);
@@ -112,17 +182,29 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public TaskDTO assignTask(Long id, Long assigneeId, User user) {
-        try {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
+    public void deleteTaskAsync(Long id, User user) {
+        if (taskRepository.findVersionById(id).isEmpty()) {
+            throw new ResourceNotFoundException("Задача не найдена");
+        }
+        taskDeletionExecutor.submit(id);
+    }
 
-            User assignee = userRepository.findById(assigneeId)
-                    .orElseThrow(() -> new CustomServiceException("Исполнитель не найден"));
-            task.setAssignee(assignee);
+    @Override
+    public TaskDTO assignTask(Long id, Long assigneeId, User user) {
+        return assignTask(id, assigneeId, user, null);
+    }
 
-            Task updatedTask = taskRepository.save(task);
-            return convertToDTO(updatedTask);
+    @Override
+    public TaskDTO assignTask(Long id, Long assigneeId, User user, Long expectedVersion) {
+        try {
+            TaskDTO updatedTask = conflictRetry.run(() -> taskRepository.updateAssignee(id, assigneeId, expectedVersion))
+                    .orElseThrow(() -> missingOrStale(id));
+            taskCache.invalidateAfterCommit(id);
+            return updatedTask;
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException("Исполнитель не найден");
+        } catch (PreconditionFailedException | ResourceNotFoundException | ConflictException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Ошибка при назначении задачи {}: {}", id, e.getMessage());
             throw new CustomServiceException("Ошибка при назначении задачи", e);
@@ -131,13 +213,18 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public TaskDTO updateTaskStatus(Long id, TaskStatus status, User user) {
-        try {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
-            task.setStatus(status);
+        return updateTaskStatus(id, status, user, null);
+    }
 
-            Task updatedTask = taskRepository.save(task);
-            return convertToDTO(updatedTask);
+    @Override
+    public TaskDTO updateTaskStatus(Long id, TaskStatus status, User user, Long expectedVersion) {
+        try {
+            TaskDTO updatedTask = conflictRetry.run(() -> taskRepository.updateStatus(id, status, expectedVersion))
+                    .orElseThrow(() -> missingOrStale(id));
+            taskCache.invalidateAfterCommit(id);
+            return updatedTask;
+        } catch (PreconditionFailedException | ResourceNotFoundException | ConflictException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Ошибка при обновлении статуса задачи {}: {}", id, e.getMessage());
             throw new CustomServiceException("Ошибка при обновлении статуса задачи", e);
@@ -146,13 +233,18 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public TaskDTO updateTaskPriority(Long id, TaskPriority priority, User user) {
-        try {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new CustomServiceException("Задача не найдена"));
-            task.setPriority(priority);
+        return updateTaskPriority(id, priority, user, null);
+    }
 
-            Task updatedTask = taskRepository.save(task);
-            return convertToDTO(updatedTask);
+    @Override
+    public TaskDTO updateTaskPriority(Long id, TaskPriority priority, User user, Long expectedVersion) {
+        try {
+            TaskDTO updatedTask = conflictRetry.run(() -> taskRepository.updatePriority(id, priority, expectedVersion))
+                    .orElseThrow(() -> missingOrStale(id));
+            taskCache.invalidateAfterCommit(id);
+            return updatedTask;
+        } catch (PreconditionFailedException | ResourceNotFoundException | ConflictException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Ошибка при обновлении приоритета задачи {}: {}", id, e.getMessage());
             throw new CustomServiceException("Ошибка при обновлении приоритета задачи", e);
@@ -160,26 +252,167 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public Page<TaskDTO> getTasksByAuthor(User author, Pageable pageable) {
-        return taskRepository.findByAuthor(author, pageable).map(this::convertToDTO);
+    public TaskListResponse<?> listTasks(User user, TaskListQuery query, Pageable pageable) {
+        Specification<Task> specification = specificationFor(user, query);
+        return query.includesComments()
+                ? listTasks(user, query, pageable, specification, this::convertTasksToDTO)
+                : listTasks(user, query, pageable, specification, this::convertTasksToSummaries);
     }
 
-    @Override
-    public Page<TaskDTO> getTasksByAssignee(User assignee, Pageable pageable) {
-        return taskRepository.findByAssignee(assignee, pageable).map(this::convertToDTO);
+    private <T> TaskListResponse<T> listTasks(User user, TaskListQuery query, Pageable pageable,
+                                              Specification<Task> specification, Function<List<Task>, List<T>> converter) {
+        if (query.getCursor() != null) {
+            return scroll(query.getCursor(), pageable, specification, converter);
+        }
+        if (query.getTotal() == TaskListQuery.Total.NONE) {
+            Slice<Task> tasks = findSlice(specification, pageable);
+            return new SliceDTO<>(new SliceImpl<>(converter.apply(tasks.getContent()), pageable, tasks.hasNext()));
+        }
+        if (query.getTotal() == TaskListQuery.Total.APPROXIMATE && isAdmin(user)) {
+            Slice<Task> tasks = findSlice(specification, pageable);
+            return new PageDTO<>(converter.apply(tasks.getContent()), pageable, estimatedTotal());
+        }
+        Page<Task> tasks = taskRepository.findAll(specification, pageable);
+        return new PageDTO<>(converter.apply(tasks.getContent()), tasks.getPageable(), tasks.getTotalElements());
     }
 
     @Override
-    public Page<TaskDTO> getTasksByAuthorOrAssignee(User author, User assignee, Pageable pageable) {
-        if (author.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN"))) {
-            return taskRepository.findAll(pageable).map(this::convertToDTO);
+    public Slice<TaskSummaryDTO> searchTasks(String query, User user, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Пустой поисковый запрос");
         }
-
-        return taskRepository.findByAuthorOrAssignee(author, assignee, pageable).map(this::convertToDTO);
+        int size = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_PAGE_SIZE;
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        List<Long> ids = taskRepository.searchIds(query, isAdmin(user) ? null : user.getId(), size + 1, offset);
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        Map<Long, Task> tasksById = taskRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> ranked = pageIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(convertTasksToSummaries(ranked), pageable, hasNext);
     }
 
     @Override
     public TaskDTO convertToDTO(Task task) {
+        return convertToDTO(task, task.getComments());
+    }
+
+    /**
+     * Оценка общего количества задач из статистики планировщика.
+     * Если статистики еще нет, количество подсчитывается точно.
+     *
+     * @return приблизительное количество задач.
+     */
+    private long estimatedTotal() {
+        long estimate = taskRepository.estimateCount();
+        return estimate >= 0 ? estimate : taskRepository.count();
+    }
+
+    /**
+     * Условие отбора задач списка: задачи пользователя в выбранной роли, удовлетворяющие фильтру.
+     *
+     * @param user  текущий пользователь.
+     * @param query параметры выборки.
+     * @return условие для {@link TaskRepository}.
+     */
+    private Specification<Task> specificationFor(User user, TaskListQuery query) {
+        Specification<Task> matches = TaskSpecifications.matches(query.getFilter());
+        return switch (query.getScope()) {
+            case AUTHOR -> TaskSpecifications.authoredBy(user.getId()).and(matches);
+            case ASSIGNEE -> TaskSpecifications.assignedTo(user.getId()).and(matches);
+            case VISIBLE -> isAdmin(user) ? matches : TaskSpecifications.visibleTo(user.getId()).and(matches);
+        };
+    }
+
+    /**
+     * Выбирает срез задач по смещению страницы. Окно само определяет наличие
+     * следующей страницы по лишней строке, без подсчета общего количества.
+     */
+    private Slice<Task> findSlice(Specification<Task> specification, Pageable pageable) {
+        ScrollPosition position = pageable.isPaged() && pageable.getOffset() > 0
+                ? ScrollPosition.offset(pageable.getOffset() - 1)
+                : ScrollPosition.offset();
+        int size = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_PAGE_SIZE;
+        Window<Task> window = taskRepository.findBy(specification,
+                query -> query.sortBy(pageable.getSort()).limit(size).scroll(position));
+        return new SliceImpl<>(window.getContent(), pageable, window.hasNext());
+    }
+
+    private boolean isAdmin(User user) {
+        return user.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN"));
+    }
+
+    /**
+     * Выбирает страницу по курсору: одно окно задач по ключу {@code (поле сортировки, id)} без подсчета общего количества.
+     *
+     * @param cursor        курсор предыдущей страницы или пустая строка для первой страницы.
+     * @param pageable      размер страницы и сортировка первой страницы.
+     * @param specification условие отбора задач.
+     * @param converter     преобразование задач окна в элементы страницы.
+     * @return страница с курсором следующей страницы.
+     */
+    private <T> CursorPageDTO<T> scroll(String cursor, Pageable pageable, Specification<Task> specification,
+                                        Function<List<Task>, List<T>> converter) {
+        TaskCursor taskCursor = cursor.isBlank()
+                ? TaskCursor.first(pageable.getSort())
+                : TaskCursor.decode(cursor);
+        int size = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_PAGE_SIZE;
+        Window<Task> window = taskRepository.findBy(specification, query -> query
+                .sortBy(taskCursor.getSort())
+                .limit(size)
+                .scroll(taskCursor.getPosition()));
+        List<Task> tasks = window.getContent();
+        String nextCursor = window.hasNext() && !tasks.isEmpty()
+                ? taskCursor.encodeAfter(tasks.get(tasks.size() - 1))
+                : null;
+        return new CursorPageDTO<>(converter.apply(tasks), nextCursor, nextCursor != null);
+    }
+
+    private List<TaskDTO> convertTasksToDTO(List<Task> tasks) {
+        Map<Long, List<Comment>> commentsByTaskId = tasks.isEmpty()
+                ? Map.of()
+                : commentRepository.findByTaskIdIn(tasks.stream().map(Task::getId).toList()).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getTask().getId()));
+        return tasks.stream()
+                .map(task -> convertToDTO(task, commentsByTaskId.getOrDefault(task.getId(), List.of())))
+                .toList();
+    }
+
+    private List<TaskSummaryDTO> convertTasksToSummaries(List<Task> tasks) {
+        Map<Long, Long> commentCounts = new HashMap<>();
+        if (!tasks.isEmpty()) {
+            for (Object[] row : commentRepository.countByTaskIdIn(tasks.stream().map(Task::getId).toList())) {
+                commentCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return tasks.stream()
+                .map(task -> new TaskSummaryDTO(task.getId(), task.getTitle(), task.getStatus(), task.getPriority(),
+                        task.getAuthor().getId(),
+                        task.getAssignee() != null ? task.getAssignee().getId() : null,
+                        commentCounts.getOrDefault(task.getId(), 0L)))
+                .toList();
+    }
+
+    /**
+     * Определяет, почему точечное изменение не затронуло ни одной строки: задачи нет или ее версия изменилась.
+     */
+    private RuntimeException missingOrStale(Long id) {
+        return taskRepository.findVersionById(id)
+                .<RuntimeException>map(version -> new PreconditionFailedException("Задача была изменена, текущая версия " + version))
+                .orElseGet(() -> new ResourceNotFoundException("Задача не найдена"));
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Задача была изменена, текущая версия " + task.getVersion());
+        }
+    }
+
+    private TaskDTO convertToDTO(Task task, List<Comment> comments) {
         TaskDTO dto = new TaskDTO();
         dto.setId(task.getId());
         dto.setTitle(task.getTitle());
@@ -188,8 +421,9 @@ public class TaskServiceImpl implements TaskService {
         dto.setPriority(task.getPriority());
         dto.setAuthorId(task.getAuthor().getId());
         dto.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        dto.setVersion(task.getVersion());
 
-        List<CommentDTO> commentDTOs = task.getComments().stream()
+        List<CommentDTO> commentDTOs = comments.stream()
                 .map(this::convertCommentToDTO)
                 .toList();
         dto.setComments(commentDTOs);
@@ -206,9 +440,9 @@ public class TaskServiceImpl implements TaskService {
         return dto;
     }
 
-    private boolean isUserAuthorizedToViewTask(Task task, User currentUser) {
+    private boolean isUserAuthorizedToViewTask(TaskDTO task, User currentUser) {
         return currentUser.getRoles().stream().anyMatch(role -> role.getName().equals("ADMIN")) ||
-                currentUser.getId().equals(task.getAuthor().getId()) ||
-                (task.getAssignee() != null && currentUser.getId().equals(task.getAssignee().getId()));
+                currentUser.getId().equals(task.getAuthorId()) ||
+                (task.getAssigneeId() != null && currentUser.getId().equals(task.getAssigneeId()));
     }
 }
@@ -0,0 +1,181 @@
+package com.royal.taskManagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.royal.taskManagement.repository.RevokedTokenRepository;
+import com.royal.taskManagement.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Сервис отзыва JWT токенов.
+ * Отозванные идентификаторы токенов (jti) хранятся в таблице {@code revoked_token} до истечения срока действия
+ * вместе с типом токена. Проверка на каждом запросе выполняется по фильтру Блума в памяти; база данных запрашивается
+ * только при возможном совпадении. Фильтр строится только из отозванных access-токенов, которые живут не дольше
+ * {@code app.jwtAccessTtlSeconds}; использованные refresh-токены в него не попадают, поэтому размер фильтра
+ * зависит от числа отзывов, а не от числа обновлений токенов.
+ * Фильтр перестраивается из базы каждые {@code app.jwtRevocationRebuildMillis},
+ * что заодно подхватывает отзывы с других узлов и удаляет истекшие записи.
+ * Результаты проверки в базе кэшируются: подтвержденный отзыв — надолго, отсутствие отзыва — на
+ * {@link #NEGATIVE_TTL}, намного меньше периода перестроения, и такие записи сбрасываются при каждом перестроении,
+ * чтобы отзыв с другого узла не скрывался устаревшим отрицательным ответом.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final int MIN_CAPACITY = 10_000;
+    private static final Duration POSITIVE_TTL = Duration.ofMinutes(5);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(5);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final double falsePositiveRate;
+    private final Clock clock;
+    private final Cache<String, Boolean> confirmed;
+    private final Counter filterPasses;
+    private final Counter databaseChecks;
+
+    private volatile BloomFilter filter;
+    private volatile Set<String> revokedDuringRebuild;
+
+    /**
+     * Конструктор сервиса.
+     *
+     * @param revokedTokenRepository репозиторий отозванных токенов.
+     * @param falsePositiveRate      допустимая доля ложноположительных ответов фильтра.
+     * @param meterRegistry          реестр метрик.
+     */
+    @Autowired
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${app.jwtRevocationFalsePositiveRate:0.01}") double falsePositiveRate,
+                                  MeterRegistry meterRegistry) {
+        this(revokedTokenRepository, falsePositiveRate, Clock.systemUTC(), Ticker.systemTicker(), meterRegistry);
+    }
+
+    TokenRevocationService(RevokedTokenRepository revokedTokenRepository, double falsePositiveRate, Clock clock,
+                           Ticker ticker, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.filter = new BloomFilter(MIN_CAPACITY, falsePositiveRate);
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(MIN_CAPACITY)
+                .expireAfter(new ConfirmationExpiry())
+                .ticker(ticker)
+                .build();
+        this.filterPasses = Counter.builder("jwt.revocation.checks").tag("result", "filtered").register(meterRegistry);
+        this.databaseChecks = Counter.builder("jwt.revocation.checks").tag("result", "database").register(meterRegistry);
+    }
+
+    /**
+     * Загружает отозванные токены из базы и публикует новый фильтр.
+     * Вызывается при старте и периодически по расписанию.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.jwtRevocationRebuildMillis:60000}",
+            initialDelayString = "${app.jwtRevocationRebuildMillis:60000}")
+    public void rebuild() {
+        Instant now = clock.instant();
+        // Отзывы, сделанные с этого момента, могли не попасть в выборку из базы; они запоминаются
+        // и добавляются в новый фильтр после его публикации.
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        revokedDuringRebuild = pending;
+        int purged = revokedTokenRepository.deleteExpired(now);
+        List<String> tokenIds = revokedTokenRepository.findActiveTokenIds(JwtService.TOKEN_TYPE_ACCESS, now);
+
+        BloomFilter next = new BloomFilter(Math.max(MIN_CAPACITY, tokenIds.size() * 2L), falsePositiveRate);
+        tokenIds.forEach(next::add);
+        filter = next;
+        // revoke() запоминает токен до того, как читает текущий фильтр, поэтому отзыв, попавший в старый фильтр,
+        // к этому моменту уже есть в pending.
+        pending.forEach(next::add);
+        revokedDuringRebuild = null;
+        confirmed.asMap().values().removeIf(Boolean.FALSE::equals);
+        LOGGER.debug("Фильтр отозванных токенов перестроен: {} активных, {} удалено", tokenIds.size(), purged);
+    }
+
+    /**
+     * Отзывает токен до истечения его срока действия.
+     * Refresh-токен только отмечается в базе: повторное использование проверяется там же при обновлении,
+     * а в фильтр запросов попадают лишь access-токены.
+     *
+     * @param token проверенный токен.
+     * @return true, если токен отозван этим вызовом, false, если он уже был отозван или не имеет идентификатора.
+     */
+    public boolean revoke(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null) {
+            return false;
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = token.getExpiration() != null ? token.getExpiration() : now;
+        String tokenType = token.isRefreshToken() ? JwtService.TOKEN_TYPE_REFRESH : JwtService.TOKEN_TYPE_ACCESS;
+        boolean inserted = revokedTokenRepository.insertIfAbsent(tokenId, tokenType, expiresAt, now) > 0;
+        if (token.isRefreshToken()) {
+            return inserted;
+        }
+
+        Set<String> pending = revokedDuringRebuild;
+        if (pending != null) {
+            pending.add(tokenId);
+        }
+        filter.add(tokenId);
+        confirmed.put(tokenId, Boolean.TRUE);
+        return inserted;
+    }
+
+    /**
+     * Проверяет, отозван ли access-токен.
+     *
+     * @param token проверенный access-токен.
+     * @return true, если токен отозван.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            filterPasses.increment();
+            return false;
+        }
+        return confirmed.get(tokenId, id -> {
+            databaseChecks.increment();
+            return revokedTokenRepository.existsById(id);
+        });
+    }
+
+    /**
+     * Политика истечения подтверждений: отсутствие отзыва хранится намного меньше, чем подтвержденный отзыв.
+     */
+    private static final class ConfirmationExpiry implements Expiry<String, Boolean> {
+
+        @Override
+        public long expireAfterCreate(String key, Boolean value, long currentTime) {
+            return (value ? POSITIVE_TTL : NEGATIVE_TTL).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Boolean value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Boolean value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
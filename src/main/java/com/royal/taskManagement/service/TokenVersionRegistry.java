@@ -0,0 +1,65 @@
+package com.royal.taskManagement.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.royal.taskManagement.repository.UserRepository;
+import com.royal.taskManagement.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Реестр актуальных версий токенов пользователей для stateless-аутентификации.
+ * Версия читается из базы не чаще одного раза за период {@code app.jwtTokenVersionTtlSeconds} на пользователя,
+ * поэтому изменение ролей на другом узле вступает в силу не позже чем через этот период,
+ * а на текущем узле — сразу после фиксации транзакции.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final long UNKNOWN_USER = -1L;
+
+    private final LoadingCache<Long, Long> versions;
+
+    /**
+     * Конструктор реестра.
+     *
+     * @param userRepository репозиторий пользователей.
+     * @param ttlSeconds     время, в течение которого версия считается актуальной без обращения к базе.
+     * @param maxSize        максимальное число пользователей в реестре.
+     */
+    public TokenVersionRegistry(UserRepository userRepository,
+                                @Value("${app.jwtTokenVersionTtlSeconds:30}") long ttlSeconds,
+                                @Value("${app.jwtTokenVersionMaxSize:100000}") long maxSize) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER));
+    }
+
+    /**
+     * Проверяет, что токен выпущен для актуальной версии пользователя.
+     *
+     * @param userId       идентификатор пользователя из токена.
+     * @param tokenVersion версия из токена.
+     * @return true, если версия актуальна, иначе false.
+     */
+    public boolean isCurrent(Long userId, Long tokenVersion) {
+        if (userId == null || tokenVersion == null) {
+            return false;
+        }
+        Long current = versions.get(userId);
+        return current != null && current != UNKNOWN_USER && current.equals(tokenVersion);
+    }
+
+    /**
+     * Сбрасывает сохраненную версию пользователя после фиксации текущей транзакции.
+     * Вне транзакции версия сбрасывается сразу.
+     *
+     * @param userId идентификатор пользователя.
+     */
+    public void invalidateAfterCommit(Long userId) {
+        TransactionUtils.afterCommit(() -> versions.invalidate(userId));
+    }
+}
@@ -0,0 +1,131 @@
+package com.royal.taskManagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.utils.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Локальный кэш пользователей по почте и по идентификатору.
+ * Записи ограничены по количеству и времени жизни ({@code app.userCacheMaxSize}, {@code app.userCacheTtlSeconds})
+ * и явно сбрасываются при изменении пользователя. Кэшированные пользователи отсоединены от сессии
+ * и не должны изменяться. Статистика публикуется в метриках {@code cache.*{cache=usersByEmail|usersById}}.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<String, User> usersByEmail;
+    private final Cache<Long, User> usersById;
+
+    /**
+     * Конструктор кэша.
+     *
+     * @param maxSize       максимальное число пользователей в каждом индексе.
+     * @param ttlSeconds    время жизни записи в секундах.
+     * @param meterRegistry реестр метрик для публикации статистики кэша.
+     */
+    @Autowired
+    public UserCache(@Value("${app.userCacheMaxSize:10000}") long maxSize,
+                     @Value("${app.userCacheTtlSeconds:60}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        this(maxSize, ttlSeconds);
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "usersByEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "usersById");
+    }
+
+    UserCache(long maxSize, long ttlSeconds) {
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Возвращает пользователя по почте из кэша или загружает его.
+     *
+     * @param email  электронная почта пользователя.
+     * @param loader функция загрузки пользователя при промахе.
+     * @return {@link Optional} с пользователем или пустой {@link Optional}, если пользователь не найден.
+     */
+    public Optional<User> getByEmail(String email, Function<String, Optional<User>> loader) {
+        User cached = usersByEmail.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> loaded = loader.apply(email);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * Возвращает пользователя по идентификатору из кэша или загружает его.
+     *
+     * @param id     идентификатор пользователя.
+     * @param loader функция загрузки пользователя при промахе.
+     * @return {@link Optional} с пользователем или пустой {@link Optional}, если пользователь не найден.
+     */
+    public Optional<User> getById(Long id, Function<Long, Optional<User>> loader) {
+        User cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> loaded = loader.apply(id);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * Проверяет, есть ли пользователь с указанной почтой в кэше.
+     *
+     * @param email электронная почта пользователя.
+     * @return true, если пользователь закэширован.
+     */
+    public boolean containsEmail(String email) {
+        return usersByEmail.getIfPresent(email) != null;
+    }
+
+    /**
+     * Сбрасывает записи пользователя после фиксации текущей транзакции.
+     *
+     * @param id    идентификатор пользователя или null.
+     * @param email электронная почта пользователя или null.
+     */
+    public void invalidateAfterCommit(Long id, String email) {
+        TransactionUtils.afterCommit(() -> {
+            if (id != null) {
+                User cached = usersById.getIfPresent(id);
+                if (cached != null) {
+                    usersByEmail.invalidate(cached.getEmail());
+                }
+                usersById.invalidate(id);
+            }
+            if (email != null) {
+                usersByEmail.invalidate(email);
+            }
+        });
+    }
+
+    private void put(User user) {
+        if (user.getEmail() != null) {
+            usersByEmail.put(user.getEmail(), user);
+        }
+        if (user.getId() != null) {
+            usersById.put(user.getId(), user);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.royal.taskManagement.service;
 
+import com.royal.taskManagement.config.AuthenticatedUser;
 import com.royal.taskManagement.entity.Role;
 import com.royal.taskManagement.entity.User;
-import com.royal.taskManagement.repository.RoleRepository;
 import com.royal.taskManagement.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
@@ -15,14 +15,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserDetailsServiceImpl implements org.springframework.security.core.userdetails.UserDetailsService {
 
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserCache userCache;
     private static final Logger LOGGER = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
     @Autowired
-    public UserDetailsServiceImpl(UserRepository userRepository, RoleRepository roleRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, RoleRegistry roleRegistry,
+                                  TokenVersionRegistry tokenVersionRegistry, UserCache userCache) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.userCache = userCache;
     }
 
     @Override
@@ -30,15 +35,11 @@ public class UserDetailsServiceImpl implements org.springframework.security.core
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         LOGGER.info("Поиск пользователя с почтой: {}", email);
 
-        return userRepository.findByEmail(email)
+        return userCache.getByEmail(email, userRepository::findByEmail)
                 .map(user -> {
                     LOGGER.info("Пользователь найден: {}", user.getEmail());
                     LOGGER.debug("Роли пользователя: {}", user.getRoles());
-                    return new org.springframework.security.core.userdetails.User(
-                            user.getEmail(),
-                            user.getPassword(),
-                            user.getRoles()
-                    );
+                    return AuthenticatedUser.from(user);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error("Пользователя с такой почтой не найден: {}", email);
@@ -56,24 +57,28 @@ public class UserDetailsServiceImpl implements org.springframework.security.core
                     return new RuntimeException("Пользователь не найден");
                 });
 
-        Role adminRole = roleRepository.findByName("ADMIN");
+        Role adminRole = roleRegistry.getRole("ADMIN");
 
-
-        if (user.getRoles().contains(adminRole)) {
+        boolean isAdmin = user.getRoles().stream()
+                .anyMatch(role -> adminRole.getName().equals(role.getName()));
+        if (isAdmin) {
             LOGGER.warn("Пользователь {} уже имеет ADMIN роль", userId);
         } else {
             user.getRoles().add(adminRole);
+            user.setTokenVersion(user.getTokenVersion() + 1);
             userRepository.save(user);
+            tokenVersionRegistry.invalidateAfterCommit(userId);
+            userCache.invalidateAfterCommit(userId, user.getEmail());
             LOGGER.info("ADMIN роль была добавлена пользователю {}", userId);
         }
     }
 
     public boolean userExists(String email) {
-        return userRepository.existsByEmail(email);
+        return userCache.containsEmail(email) || userRepository.existsByEmail(email);
     }
 
     public User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userCache.getByEmail(email, userRepository::findByEmail)
                 .orElseThrow(() -> new RuntimeException("Пользователя с такой почтой не найден: " + email));
     }
 
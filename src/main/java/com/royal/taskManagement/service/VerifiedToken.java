@@ -0,0 +1,166 @@
+package com.royal.taskManagement.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Неизменяемый результат проверки JWT токена.
+ * Создается один раз после проверки подписи и срока действия и содержит все данные,
+ * которые нужны фильтру аутентификации, без повторного разбора токена.
+ */
+public final class VerifiedToken {
+
+    private final String username;
+    private final Instant issuedAt;
+    private final Instant expiration;
+    private final Long userId;
+    private final List<String> roles;
+    private final Long tokenVersion;
+    private final String tokenId;
+    private final String tokenType;
+
+    /**
+     * Конструктор проверенного токена без данных пользователя.
+     *
+     * @param username   имя пользователя (subject).
+     * @param issuedAt   время выпуска токена.
+     * @param expiration время истечения токена.
+     */
+    public VerifiedToken(String username, Instant issuedAt, Instant expiration) {
+        this(username, issuedAt, expiration, null, null, null);
+    }
+
+    /**
+     * Конструктор проверенного токена.
+     *
+     * @param username     имя пользователя (subject).
+     * @param issuedAt     время выпуска токена.
+     * @param expiration   время истечения токена.
+     * @param userId       идентификатор пользователя или null, если токен его не содержит.
+     * @param roles        названия ролей пользователя или null, если токен их не содержит.
+     * @param tokenVersion версия токенов пользователя или null, если токен ее не содержит.
+     */
+    public VerifiedToken(String username, Instant issuedAt, Instant expiration,
+                         Long userId, Collection<String> roles, Long tokenVersion) {
+        this(username, issuedAt, expiration, userId, roles, tokenVersion, null, null);
+    }
+
+    /**
+     * Конструктор проверенного токена с идентификатором и типом.
+     *
+     * @param username     имя пользователя (subject).
+     * @param issuedAt     время выпуска токена.
+     * @param expiration   время истечения токена.
+     * @param userId       идентификатор пользователя или null, если токен его не содержит.
+     * @param roles        названия ролей пользователя или null, если токен их не содержит.
+     * @param tokenVersion версия токенов пользователя или null, если токен ее не содержит.
+     * @param tokenId      уникальный идентификатор токена (jti) или null.
+     * @param tokenType    тип токена ("access" или "refresh") или null для токенов старого формата.
+     */
+    public VerifiedToken(String username, Instant issuedAt, Instant expiration,
+                         Long userId, Collection<String> roles, Long tokenVersion,
+                         String tokenId, String tokenType) {
+        this.username = username;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.userId = userId;
+        this.roles = roles != null ? List.copyOf(roles) : null;
+        this.tokenVersion = tokenVersion;
+        this.tokenId = tokenId;
+        this.tokenType = tokenType;
+    }
+
+    /**
+     * Создает проверенный токен из уже проверенных claims.
+     *
+     * @param claims claims токена с проверенной подписью.
+     * @return объект {@link VerifiedToken}.
+     */
+    @SuppressWarnings("unchecked")
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                claims.get(JwtService.CLAIM_USER_ID, Long.class),
+                claims.get(JwtService.CLAIM_ROLES, List.class),
+                claims.get(JwtService.CLAIM_TOKEN_VERSION, Long.class),
+                claims.getId(),
+                claims.get(JwtService.CLAIM_TOKEN_TYPE, String.class)
+        );
+    }
+
+    /**
+     * Проверяет, содержит ли токен данные, достаточные для аутентификации без обращения к базе.
+     *
+     * @return true, если в токене есть идентификатор, роли и версия пользователя.
+     */
+    public boolean hasUserClaims() {
+        return userId != null && roles != null && tokenVersion != null;
+    }
+
+    /**
+     * Проверяет, является ли токен refresh-токеном.
+     * Refresh-токен можно использовать только для получения новой пары токенов.
+     *
+     * @return true, если это refresh-токен.
+     */
+    public boolean isRefreshToken() {
+        return JwtService.TOKEN_TYPE_REFRESH.equals(tokenType);
+    }
+
+    /**
+     * Проверяет, истек ли срок действия токена на указанный момент.
+     *
+     * @param now текущее время.
+     * @return true, если токен истек, иначе false.
+     */
+    public boolean isExpired(Instant now) {
+        return expiration != null && !expiration.isAfter(now);
+    }
+
+    /**
+     * Геттеры
+     */
+    public String getUsername() {
+        return username;
+    }
+
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+
+    public Instant getExpiration() {
+        return expiration;
+    }
+
+
+    public Long getUserId() {
+        return userId;
+    }
+
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+
+    public Long getTokenVersion() {
+        return tokenVersion;
+    }
+
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+
+    public String getTokenType() {
+        return tokenType;
+    }
+}
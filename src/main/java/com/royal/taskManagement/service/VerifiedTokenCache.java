@@ -0,0 +1,131 @@
+package com.royal.taskManagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Ограниченный по размеру кэш уже проверенных JWT токенов.
+ * Ключом служит SHA-256 дайджест токена, поэтому сами токены в памяти не хранятся.
+ * Запись живет не дольше срока действия токена ({@code exp}), невалидные токены не кэшируются.
+ * Статистика попаданий и промахов публикуется в метриках {@code cache.gets{cache=jwtTokens}}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwtTokens";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    });
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Clock clock;
+
+    /**
+     * Конструктор кэша.
+     *
+     * @param maxSize       максимальное число токенов в кэше.
+     * @param meterRegistry реестр метрик для публикации статистики кэша.
+     */
+    @Autowired
+    public VerifiedTokenCache(@Value("${app.jwtCacheMaxSize:10000}") long maxSize, MeterRegistry meterRegistry) {
+        this(maxSize, Clock.systemUTC(), Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    VerifiedTokenCache(long maxSize, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Возвращает проверенный токен из кэша или проверяет его и кладет в кэш.
+     *
+     * @param token    JWT токен.
+     * @param verifier функция полной проверки токена при промахе.
+     * @return {@link Optional} с проверенным токеном или пустой {@link Optional}, если токен невалиден.
+     */
+    public Optional<VerifiedToken> getOrVerify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(clock.instant())) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = verifier.apply(token);
+        verified.filter(value -> value.getExpiration() != null)
+                .ifPresent(value -> cache.put(key, value));
+        return verified;
+    }
+
+    /**
+     * Удаляет токен из кэша.
+     *
+     * @param token JWT токен.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * Возвращает статистику попаданий и промахов кэша.
+     *
+     * @return статистика кэша.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    /**
+     * Политика истечения записей: время жизни записи заканчивается вместе со сроком действия токена.
+     */
+    private final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = Duration.between(clock.instant(), value.getExpiration()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,48 +1,37 @@
 package com.royal.taskManagement.utils;
 
-import com.royal.taskManagement.entity.Role;
-import com.royal.taskManagement.repository.RoleRepository;
+import com.royal.taskManagement.service.RoleRegistry;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 /**
  * Класс инициализирует базовые данные (роли) при запуске приложения.
  * Реализует {@link CommandLineRunner}, чтобы автоматически создавать роли "ADMIN" и "USER",
- * если они не существуют в базе данных.
+ * если они не существуют в базе данных, и заполнять {@link RoleRegistry}.
  */
 @Component
 public class DataInitializer implements CommandLineRunner {
 
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
     /**
      * Конструктор инициализатора данных.
      *
-     * @param roleRepository Репозиторий для работы с ролями.
+     * @param roleRegistry Справочник ролей.
      */
-    public DataInitializer(RoleRepository roleRepository) {
-        this.roleRepository = roleRepository;
+    public DataInitializer(RoleRegistry roleRegistry) {
+        this.roleRegistry = roleRegistry;
     }
 
     /**
      * Метод выполняется при старте приложения.
-     * Проверяет наличие ролей "ADMIN" и "USER" в базе данных. Если они не существуют, создает их.
+     * Загружает все роли одним запросом и создает "ADMIN" и "USER", если они не существуют.
      *
      * @param args аргументы командной строки, передаваемые при запуске.
      * @throws Exception если возникла ошибка при сохранении ролей.
      */
     @Override
     public void run(String... args) throws Exception {
-        if (roleRepository.findByName("ADMIN") == null) {
-            Role adminRole = new Role();
-            adminRole.setName("ADMIN");
-            roleRepository.save(adminRole);
-        }
-
-        if (roleRepository.findByName("USER") == null) {
-            Role userRole = new Role();
-            userRole.setName("USER");
-            roleRepository.save(userRole);
-        }
+        roleRegistry.ensureRoles("ADMIN", "USER");
     }
 }
@@ -0,0 +1,90 @@
+package com.royal.taskManagement.utils;
+
+import com.royal.taskManagement.exception.PreconditionFailedException;
+
+/**
+ * Вспомогательные методы для сильных ETag задач и их комментариев.
+ * ETag строится из идентификатора и версии задачи, поэтому для его проверки
+ * не нужно загружать и сериализовать саму задачу.
+ */
+public final class ETags {
+
+    private static final String TASK_PREFIX = "task-";
+    private static final String COMMENTS_PREFIX = "comments-";
+
+    private ETags() {
+    }
+
+    /**
+     * Формирует ETag задачи.
+     *
+     * @param id      идентификатор задачи.
+     * @param version версия задачи.
+     * @return ETag в кавычках, например {@code "task-1-3"}.
+     */
+    public static String forTask(Long id, Long version) {
+        return "\"" + TASK_PREFIX + id + "-" + version + "\"";
+    }
+
+    /**
+     * Формирует ETag списка комментариев задачи.
+     * Отличается от ETag задачи, так как это другое представление ресурса.
+     *
+     * @param taskId  идентификатор задачи.
+     * @param version версия задачи.
+     * @return ETag в кавычках, например {@code "comments-1-3"}.
+     */
+    public static String forComments(Long taskId, Long version) {
+        return "\"" + COMMENTS_PREFIX + taskId + "-" + version + "\"";
+    }
+
+    /**
+     * Проверяет заголовок {@code If-None-Match} (слабое сравнение).
+     *
+     * @param ifNoneMatch значение заголовка или null.
+     * @param etag        текущий ETag ресурса.
+     * @return true, если клиент уже имеет актуальное представление.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Извлекает ожидаемую версию задачи из заголовка {@code If-Match} (сильное сравнение).
+     *
+     * @param ifMatch значение заголовка или null.
+     * @param id      идентификатор изменяемой задачи.
+     * @return ожидаемая версия или null, если заголовок не указан или равен {@code *}.
+     * @throws PreconditionFailedException если заголовок не содержит ETag этой задачи.
+     */
+    public static Long expectedTaskVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + TASK_PREFIX + id + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    // Не ETag задачи, проверяем следующий
+                }
+            }
+        }
+        throw new PreconditionFailedException("Заголовок If-Match не соответствует задаче " + id);
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,126 @@
+package com.royal.taskManagement.utils;
+
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Непрозрачный курсор для постраничной выборки задач по ключу {@code (поле сортировки, id)}.
+ * Курсор хранит поле и направление сортировки, поэтому следующие страницы выбираются в том же порядке,
+ * что и первая, независимо от переданного параметра сортировки.
+ */
+public final class TaskCursor {
+
+    private static final String VERSION = "v1";
+    private static final String ID = "id";
+    private static final Set<String> SORT_PROPERTIES = Set.of(ID, "title", "status", "priority");
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final ScrollPosition position;
+
+    private TaskCursor(String property, Sort.Direction direction, ScrollPosition position) {
+        this.property = property;
+        this.direction = direction;
+        this.position = position;
+    }
+
+    /**
+     * Создает курсор первой страницы.
+     * Используется первое поле сортировки из списка id, title, status, priority; по умолчанию id по возрастанию.
+     *
+     * @param sort сортировка из запроса.
+     * @return курсор первой страницы.
+     */
+    public static TaskCursor first(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (SORT_PROPERTIES.contains(order.getProperty())) {
+                return new TaskCursor(order.getProperty(), order.getDirection(), ScrollPosition.keyset());
+            }
+        }
+        return new TaskCursor(ID, Sort.Direction.ASC, ScrollPosition.keyset());
+    }
+
+    /**
+     * Восстанавливает курсор из строки, полученной клиентом с предыдущей страницей.
+     *
+     * @param cursor строка курсора.
+     * @return курсор следующей страницы.
+     * @throws IllegalArgumentException если курсор поврежден.
+     */
+    public static TaskCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || !SORT_PROPERTIES.contains(parts[1])) {
+                throw new IllegalArgumentException("Некорректный курсор");
+            }
+            String property = parts[1];
+            Sort.Direction direction = Sort.Direction.valueOf(parts[2]);
+            Long id = Long.valueOf(parts[3]);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (!ID.equals(property)) {
+                keys.put(property, parseValue(property, parts[4]));
+            }
+            keys.put(ID, id);
+            return new TaskCursor(property, direction, ScrollPosition.forward(keys));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Некорректный курсор", e);
+        }
+    }
+
+    /**
+     * Кодирует курсор, указывающий на позицию после переданной задачи.
+     *
+     * @param task последняя задача текущей страницы.
+     * @return строка курсора для следующей страницы.
+     */
+    public String encodeAfter(Task task) {
+        String value = switch (property) {
+            case "title" -> task.getTitle();
+            case "status" -> task.getStatus().name();
+            case "priority" -> task.getPriority().name();
+            default -> "";
+        };
+        String raw = String.join(":", VERSION, property, direction.name(), String.valueOf(task.getId()), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Возвращает сортировку курсора с уникальным id в качестве последнего ключа.
+     *
+     * @return сортировка для выборки страницы.
+     */
+    public Sort getSort() {
+        if (ID.equals(property)) {
+            return Sort.by(direction, ID);
+        }
+        return Sort.by(direction, property).and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Возвращает позицию, с которой начинается страница.
+     *
+     * @return начальная позиция или {@link KeysetScrollPosition} после последней задачи предыдущей страницы.
+     */
+    public ScrollPosition getPosition() {
+        return position;
+    }
+
+    private static Object parseValue(String property, String value) {
+        return switch (property) {
+            case "status" -> TaskStatus.valueOf(value);
+            case "priority" -> TaskPriority.valueOf(value);
+            default -> value;
+        };
+    }
+}
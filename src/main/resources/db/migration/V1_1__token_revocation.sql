@@ -0,0 +1,17 @@
+-- Версия токенов пользователя (User.tokenVersion) и отозванные токены (RevokedToken).
+-- Выполняется сразу после baseline и до V2, которая индексирует revoked_token.
+-- IF NOT EXISTS: на базах, схему которых до перехода на миграции обновлял Hibernate, они уже могут быть.
+
+alter table users add column if not exists token_version bigint not null default 0;
+
+create table if not exists revoked_token (
+    token_id varchar(64) not null,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null,
+    primary key (token_id)
+);
+
+-- Тип токена: в фильтр отозванных токенов загружаются только access-токены (findActiveTokenIds),
+-- использованные refresh-токены проверяются по первичному ключу при обновлении.
+alter table revoked_token add column if not exists token_type varchar(16) not null default 'access';
+create index if not exists idx_revoked_token_type_expires_at on revoked_token (token_type, expires_at);
@@ -0,0 +1,47 @@
+-- Исходная схема, ранее создававшаяся Hibernate (ddl-auto=update).
+-- На существующих базах эта миграция не выполняется: они помечаются версией 1 (baseline-on-migrate).
+
+create table users (
+    id bigint generated by default as identity,
+    token_version bigint default 0 not null,
+    email varchar(255),
+    password varchar(255) not null,
+    primary key (id)
+);
+
+create table role (
+    id bigint generated by default as identity,
+    name varchar(255),
+    primary key (id)
+);
+
+create table users_roles (
+    user_id bigint not null,
+    roles_id bigint not null
+);
+
+create table task (
+    id bigint generated by default as identity,
+    title varchar(100) not null,
+    description varchar(1000),
+    status varchar(255) not null check (status in ('PENDING', 'IN_PROGRESS', 'COMPLETED')),
+    priority varchar(255) not null check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    author_id bigint,
+    assignee_id bigint,
+    primary key (id)
+);
+
+create table comment (
+    id bigint generated by default as identity,
+    text varchar(500) not null,
+    task_id bigint,
+    author_id bigint,
+    primary key (id)
+);
+
+alter table users_roles add constraint fk_users_roles_user foreign key (user_id) references users;
+alter table users_roles add constraint fk_users_roles_role foreign key (roles_id) references role;
+alter table task add constraint fk_task_author foreign key (author_id) references users;
+alter table task add constraint fk_task_assignee foreign key (assignee_id) references users;
+alter table comment add constraint fk_comment_task foreign key (task_id) references task;
+alter table comment add constraint fk_comment_author foreign key (author_id) references users;
@@ -0,0 +1,23 @@
+-- Индексы под запросы репозиториев. IF NOT EXISTS: часть индексов могла быть создана Hibernate до перехода на миграции.
+
+-- Списки задач автора (TaskSpecifications.authoredBy): страница, срез и выборка по курсору
+-- в TaskServiceImpl.listTasks, а также левая ветка условия author_id = ? OR assignee_id = ?
+-- (TaskSpecifications.visibleTo, проверка прав в групповых изменениях и поиске)
+create index if not exists idx_task_author_id on task (author_id, id);
+
+-- Списки задач исполнителя (TaskSpecifications.assignedTo) в тех же режимах выборки
+-- и правая ветка условия author_id = ? OR assignee_id = ?
+create index if not exists idx_task_assignee_id on task (assignee_id, id);
+
+-- CommentRepository: findByTaskId, findByTaskIdIn (ORDER BY id), countByTaskIdIn
+-- и подзапрос количества комментариев в кратком описании задачи
+create index if not exists idx_comment_task_id on comment (task_id, id);
+
+-- UserRepository: findByEmail при аутентификации и регистрации
+create index if not exists idx_users_email on users (email);
+
+-- Загрузка ролей пользователя (users.roles, FetchType.EAGER)
+create index if not exists idx_users_roles_user_id on users_roles (user_id);
+
+-- RevokedTokenRepository: findActiveTokenIds и deleteExpired
+create index if not exists idx_revoked_token_expires_at on revoked_token (expires_at);
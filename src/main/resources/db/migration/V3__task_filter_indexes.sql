@@ -0,0 +1,10 @@
+-- Индексы под фильтры списков задач (TaskSpecifications).
+
+-- Фильтры по статусу и приоритету среди задач пользователя: обе ветки условия
+-- author_id = ? OR assignee_id = ?, а также явные фильтры authorId и assigneeId
+create index if not exists idx_task_author_status_priority on task (author_id, status, priority, id);
+create index if not exists idx_task_assignee_status_priority on task (assignee_id, status, priority, id);
+
+-- Фильтры по статусу и приоритету по всем задачам (администратор)
+create index if not exists idx_task_status_priority on task (status, priority, id);
+create index if not exists idx_task_priority on task (priority, id);
@@ -0,0 +1,3 @@
+-- Версия задачи для оптимистической блокировки и ETag (Task.version).
+-- Существующие задачи получают версию 0.
+alter table task add column if not exists version bigint not null default 0;
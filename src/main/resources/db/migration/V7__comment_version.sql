@@ -0,0 +1,3 @@
+-- Версия комментария для оптимистической блокировки (Comment.version).
+-- Существующие комментарии получают версию 0.
+alter table comment add column if not exists version bigint not null default 0;
@@ -0,0 +1,143 @@
+package com.royal.taskManagement.config;
+
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.service.JwtService;
+import com.royal.taskManagement.service.TokenRevocationService;
+import com.royal.taskManagement.service.TokenVersionRegistry;
+import com.royal.taskManagement.service.UserDetailsServiceImpl;
+import com.royal.taskManagement.service.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Проверяет stateless-режим фильтра: аутентификацию из claims токена без загрузки пользователя,
+ * отклонение токена с устаревшей версией и загрузку пользователя для токена без claims.
+ */
+public class JwtRequestFilterTest {
+
+    private static final String SECRET = "zxcdsg343t5k34s45t4ws6yts546yse645t6ytr-test-secret";
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtService jwtService;
+    private JwtRequestFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        jwtService = new JwtService(SECRET, 900, 1_209_600);
+        filter = new JwtRequestFilter(userDetailsService, jwtService,
+                new VerifiedTokenCache(100, new SimpleMeterRegistry()), tokenVersionRegistry, tokenRevocationService, true);
+
+        Role adminRole = new Role();
+        adminRole.setName("ADMIN");
+        user = new User(List.of(adminRole));
+        user.setId(42L);
+        user.setEmail("user@example.com");
+        user.setTokenVersion(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_StatelessCurrentVersion_AuthenticatesFromClaimsWithoutLookup() throws Exception {
+        // Arrange
+        when(tokenVersionRegistry.isCurrent(42L, 3L)).thenReturn(true);
+
+        // Act
+        Authentication authentication = filter(jwtService.generateToken(user));
+
+        // Assert
+        assertNotNull(authentication);
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, authentication.getPrincipal());
+        assertEquals(42L, principal.getId());
+        assertEquals("user@example.com", principal.getUsername());
+        assertEquals(List.of("ADMIN"), principal.getRoles());
+        assertTrue(authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_StatelessOutdatedVersion_LeavesRequestUnauthenticated() throws Exception {
+        // Arrange
+        when(tokenVersionRegistry.isCurrent(42L, 3L)).thenReturn(false);
+
+        // Act
+        Authentication authentication = filter(jwtService.generateToken(user));
+
+        // Assert
+        assertNull(authentication);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_StatelessTokenWithoutClaims_LoadsUserByUsername() throws Exception {
+        // Arrange
+        UserDetails loaded = AuthenticatedUser.from(user);
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(loaded);
+        String token = jwtService.generateToken(org.springframework.security.core.userdetails.User
+                .withUsername("user@example.com")
+                .password("password")
+                .authorities("USER")
+                .build());
+
+        // Act
+        Authentication authentication = filter(token);
+
+        // Assert
+        assertNotNull(authentication);
+        assertSame(loaded, authentication.getPrincipal());
+        verify(userDetailsService, times(1)).loadUserByUsername("user@example.com");
+        verify(tokenVersionRegistry, never()).isCurrent(any(), any());
+    }
+
+    @Test
+    void doFilter_RefreshToken_IsNotAccepted() throws Exception {
+        // Act
+        Authentication authentication = filter(jwtService.generateRefreshToken(user));
+
+        // Assert
+        assertNull(authentication);
+        verifyNoInteractions(userDetailsService, tokenVersionRegistry);
+    }
+
+    private Authentication filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setServletPath("/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
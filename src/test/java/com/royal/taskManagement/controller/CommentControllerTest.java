@@ -0,0 +1,77 @@
+package com.royal.taskManagement.controller;
+
+import com.royal.taskManagement.config.AuthenticatedUser;
+import com.royal.taskManagement.config.CurrentUserArgumentResolver;
+import com.royal.taskManagement.dto.CommentDTO;
+import com.royal.taskManagement.service.CommentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Проверяет условное получение комментариев: 304 по {@code If-None-Match} без загрузки комментариев.
+ */
+public class CommentControllerTest {
+
+    @Mock
+    private CommentService commentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CommentController(commentService))
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver())
+                .build();
+        AuthenticatedUser principal = new AuthenticatedUser(7L, "user@example.com", "", List.of("USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(commentService.getTaskVersion(eq(1L), any())).thenReturn(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getCommentsByTaskId_IfNoneMatchCurrent_Returns304WithoutLoadingComments() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1/comments").header(HttpHeaders.IF_NONE_MATCH, "\"task-1-2\", \"comments-1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"comments-1-3\""))
+                .andExpect(content().string(""));
+        verify(commentService, never()).getCommentsByTaskId(any(), any());
+    }
+
+    @Test
+    void getCommentsByTaskId_TaskETag_ReturnsCommentsWithCommentsETag() throws Exception {
+        // Arrange
+        CommentDTO comment = new CommentDTO();
+        comment.setId(10L);
+        comment.setText("hello");
+        when(commentService.getCommentsByTaskId(eq(1L), any())).thenReturn(List.of(comment));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1/comments").header(HttpHeaders.IF_NONE_MATCH, "\"task-1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"comments-1-3\""))
+                .andExpect(jsonPath("$[0].id").value(10));
+    }
+}
@@ -0,0 +1,144 @@
+package com.royal.taskManagement.controller;
+
+import com.royal.taskManagement.config.AuthenticatedUser;
+import com.royal.taskManagement.config.CurrentUserArgumentResolver;
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.PreconditionFailedException;
+import com.royal.taskManagement.service.TaskBulkService;
+import com.royal.taskManagement.service.TaskExportService;
+import com.royal.taskManagement.service.TaskImportService;
+import com.royal.taskManagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Проверяет условные запросы к задаче: 304 по {@code If-None-Match} и 412 по {@code If-Match}.
+ */
+public class TaskControllerTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TaskController controller = new TaskController(taskService, mock(TaskExportService.class),
+                mock(TaskImportService.class), mock(TaskBulkService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver())
+                .build();
+        AuthenticatedUser principal = new AuthenticatedUser(7L, "user@example.com", "", List.of("USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getTaskById_IfNoneMatchCurrent_Returns304WithoutLoadingTask() throws Exception {
+        // Arrange
+        when(taskService.getTaskVersion(eq(1L), any())).thenReturn(3L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"task-1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"task-1-3\""))
+                .andExpect(content().string(""));
+        verify(taskService, never()).getTaskById(any(), any());
+    }
+
+    @Test
+    void getTaskById_IfNoneMatchStale_ReturnsTaskWithCurrentETag() throws Exception {
+        // Arrange
+        when(taskService.getTaskVersion(eq(1L), any())).thenReturn(4L);
+        when(taskService.getTaskById(eq(1L), any())).thenReturn(task(1L, 4L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"task-1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"task-1-4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void updateTaskStatus_IfMatch_PassesExpectedVersionAndReturnsNewETag() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.COMPLETED), any(), eq(3L))).thenReturn(task(1L, 4L));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1/status").param("status", "COMPLETED")
+                        .header(HttpHeaders.IF_MATCH, "\"task-1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"task-1-4\""));
+    }
+
+    @Test
+    void updateTaskStatus_StaleVersion_Returns412() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.COMPLETED), any(), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Задача изменилась"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1/status").param("status", "COMPLETED")
+                        .header(HttpHeaders.IF_MATCH, "\"task-1-2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateTask_WeakOrForeignIfMatch_Returns412WithoutUpdating() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"t\"}")
+                        .header(HttpHeaders.IF_MATCH, "W/\"task-1-3\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/tasks/1").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"t\"}")
+                        .header(HttpHeaders.IF_MATCH, "\"task-2-3\""))
+                .andExpect(status().isPreconditionFailed());
+        verify(taskService, never()).updateTask(any(), any(), any(), any());
+    }
+
+    @Test
+    void updateTask_IfMatchAsterisk_UpdatesWithoutVersionCheck() throws Exception {
+        // Arrange
+        when(taskService.updateTask(eq(1L), any(), any(), isNull())).thenReturn(task(1L, 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"t\"}")
+                        .header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"task-1-1\""));
+    }
+
+    private static TaskDTO task(Long id, Long version) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setTitle("t");
+        task.setVersion(version);
+        return task;
+    }
+}
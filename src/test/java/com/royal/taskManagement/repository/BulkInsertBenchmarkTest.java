@@ -0,0 +1,123 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.entity.Comment;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет, что вставки задач и комментариев объединяются в JDBC-пакеты благодаря id из последовательностей,
+ * и измеряет выигрыш пропускной способности по сравнению с построчной вставкой (как было с identity).
+ * Бенчмарк запускается отдельно: {@code mvn test -Dtest=BulkInsertBenchmarkTest -Dbenchmark=true}.
+ * На встроенной H2 нет сетевых задержек, поэтому на PostgreSQL выигрыш заметно больше:
+ * число обращений к базе сокращается примерно в размер пакета раз.
+ */
+public class BulkInsertBenchmarkTest extends TaskDataJpaTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+    private static final int BATCH_SIZE = 50;
+    private static final int WARMUP_TASKS = 2_000;
+    private static final int MEASURED_TASKS = 10_000;
+    private static final int COMMENTS_PER_TASK = 4;
+
+    private Statistics statistics;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        statistics = statistics();
+        author = persistUser("author@example.com");
+        entityManager.flush();
+    }
+
+    @Test
+    void persistTasksWithComments_GroupsInsertsIntoBatches() {
+        // Arrange
+        statistics.clear();
+
+        // Act: 100 задач и 400 комментариев
+        insert(100);
+
+        // Assert: пакеты по 50 вставок плюс редкие запросы к последовательностям вместо 500 отдельных вставок
+        assertEquals(500, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 30, "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void batchedInserts_AreFasterThanRowByRowInserts() {
+        Session session = entityManager.unwrap(Session.class);
+
+        session.setJdbcBatchSize(1);
+        insert(WARMUP_TASKS);
+        Result rowByRow = measure();
+
+        session.setJdbcBatchSize(BATCH_SIZE);
+        insert(WARMUP_TASKS);
+        Result batched = measure();
+
+        logger.info("row by row: {}", rowByRow);
+        logger.info("batched ({}): {}", BATCH_SIZE, batched);
+        logger.info("speedup: {}x, statements: {}x fewer",
+                String.format("%.2f", batched.rowsPerSecond / rowByRow.rowsPerSecond),
+                String.format("%.1f", (double) rowByRow.statements / batched.statements));
+
+        assertTrue(batched.statements * 10 < rowByRow.statements);
+        assertTrue(batched.rowsPerSecond > rowByRow.rowsPerSecond);
+    }
+
+    private Result measure() {
+        statistics.clear();
+        long start = System.nanoTime();
+        insert(MEASURED_TASKS);
+        long elapsed = System.nanoTime() - start;
+        long rows = statistics.getEntityInsertCount();
+        return new Result(rows, statistics.getPrepareStatementCount(), rows * 1_000_000_000.0 / elapsed);
+    }
+
+    private void insert(int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description");
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setAuthor(author);
+            entityManager.persist(task);
+            for (int j = 0; j < COMMENTS_PER_TASK; j++) {
+                Comment comment = new Comment();
+                comment.setText("Comment " + j);
+                comment.setTask(task);
+                comment.setAuthor(author);
+                entityManager.persist(comment);
+            }
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                author = entityManager.getReference(User.class, author.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        author = entityManager.getReference(User.class, author.getId());
+    }
+
+    private record Result(long rows, long statements, double rowsPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("%.0f rows/s, %d statements for %d rows", rowsPerSecond, statements, rows);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.royal.taskManagement.repository;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Общая основа тестов слоя данных на PostgreSQL в контейнере (Testcontainers) для запросов,
+ * которые выполняются только на PostgreSQL. Схема создается миграциями Flyway и проверяется по сущностям,
+ * как в рабочей базе. Контейнер один на все тесты, чтобы контекст Spring переиспользовался между классами.
+ * Без Docker тесты пропускаются.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class PostgresDataJpaTest extends TaskJpaFixtures {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        postgres.start();
+    }
+}
@@ -0,0 +1,104 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет миграции на базе, созданной до перехода на Flyway: схема baseline-коммита с данными
+ * и без истории миграций. Flyway помечает такую базу версией 1 (V1 не выполняется) и применяет
+ * остальные миграции, после чего Hibernate проверяет схему по сущностям (ddl-auto=validate).
+ * Требует Docker; без него тест пропускается.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PreSeriesSchemaMigrationTest.PreSeriesSchema.class)
+public class PreSeriesSchemaMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void migrate_PreSeriesDatabase_BaselinesAndAppliesLaterMigrations() {
+        // Act
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT type || ':' || version FROM flyway_schema_history ORDER BY installed_rank", String.class);
+
+        // Assert
+        assertEquals(List.of("BASELINE:1", "SQL:1.1", "SQL:2", "SQL:3", "SQL:4", "SQL:5", "SQL:6", "SQL:7"), applied);
+        assertEquals(List.of(0L, 0L), jdbcTemplate.queryForList("SELECT token_version FROM users ORDER BY id", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_token", Integer.class));
+        assertEquals(List.of(0L, 0L), jdbcTemplate.queryForList("SELECT version FROM task ORDER BY id", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT id FROM task WHERE search_vector @@ plainto_tsquery('russian', 'квартальный')", Long.class));
+    }
+
+    @Test
+    void persist_AfterMigration_IdsContinueAfterExistingRows() {
+        // Arrange
+        User author = entityManager.find(User.class, 1L);
+        Task task = new Task();
+        task.setTitle("Новая задача");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setAuthor(author);
+
+        // Act
+        entityManager.persist(task);
+        entityManager.flush();
+
+        // Assert
+        assertTrue(task.getId() > 2, "id: " + task.getId());
+        assertEquals(0L, author.getTokenVersion());
+    }
+
+    /**
+     * Перед миграциями создает в пустой базе схему и данные, как до перехода на Flyway.
+     */
+    @TestConfiguration
+    static class PreSeriesSchema {
+
+        @Bean
+        FlywayMigrationStrategy preSeriesSchema() {
+            return flyway -> {
+                ResourceDatabasePopulator populator =
+                        new ResourceDatabasePopulator(new ClassPathResource("db/pre-series-schema.sql"));
+                populator.setSqlScriptEncoding("UTF-8");
+                populator.execute(flyway.getConfiguration().getDataSource());
+                flyway.migrate();
+            };
+        }
+    }
+}
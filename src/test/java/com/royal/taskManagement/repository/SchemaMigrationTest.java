@@ -0,0 +1,55 @@
+package com.royal.taskManagement.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет, что миграции создают схему, совпадающую с сущностями (ddl-auto=validate),
+ * и индексы под запросы репозиториев.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class SchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_CreateSchemaValidAgainstEntitiesWithQueryIndexes() {
+        // Act
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE index_name LIKE 'idx_%'", String.class);
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"type\" = 'SQL' AND \"success\" " +
+                        "ORDER BY \"installed_rank\"", String.class);
+
+        // Assert
+        assertTrue(indexes.containsAll(List.of(
+                "idx_task_author_id",
+                "idx_task_assignee_id",
+                "idx_comment_task_id",
+                "idx_users_email",
+                "idx_users_roles_user_id",
+                "idx_revoked_token_expires_at",
+                "idx_revoked_token_type_expires_at",
+                "idx_task_author_status_priority",
+                "idx_task_assignee_status_priority",
+                "idx_task_status_priority",
+                "idx_task_priority")), indexes.toString());
+        assertEquals(List.of("1", "1.1", "2", "3", "5", "6", "7"), applied);
+    }
+}
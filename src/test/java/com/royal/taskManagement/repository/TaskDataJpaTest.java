@@ -0,0 +1,16 @@
+package com.royal.taskManagement.repository;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Общая основа тестов слоя данных на H2: схема создается по сущностям без миграций,
+ * статистика Hibernate включена для подсчета запросов. Тесты с одинаковой конфигурацией
+ * используют один контекст Spring.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+public abstract class TaskDataJpaTest extends TaskJpaFixtures {
+}
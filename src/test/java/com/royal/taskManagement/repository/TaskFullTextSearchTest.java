@@ -0,0 +1,94 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет полнотекстовый поиск на PostgreSQL: ранжирование по весу заголовка и описания,
+ * ограничение задачами пользователя, стабильные страницы и отбор самых новых кандидатов.
+ */
+@TestPropertySource(properties = "app.taskSearchMaxCandidates=4")
+public class TaskFullTextSearchTest extends PostgresDataJpaTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice@example.com");
+        bob = persistUser("bob@example.com");
+    }
+
+    @Test
+    void searchIds_MatchInTitle_RanksAboveMatchInDescription() {
+        // Arrange
+        Task inDescription = persistTask(alice, "Сверка", "Подготовить квартальный отчет", null);
+        Task inTitle = persistTask(alice, "Квартальный отчет", "Собрать цифры", null);
+        persistTask(alice, "Отпуск", "Согласовать даты", null);
+        entityManager.flush();
+
+        // Act
+        List<Long> ids = taskRepository.searchIds("отчеты", null, 10, 0);
+
+        // Assert
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), ids);
+    }
+
+    @Test
+    void searchIds_RestrictedToUser_FindsOnlyAuthoredAndAssignedTasks() {
+        // Arrange
+        Task authored = persistTask(alice, "Отчет по продажам", null, null);
+        Task assigned = persistTask(bob, "Отчет по закупкам", null, alice);
+        persistTask(bob, "Отчет по складу", null, null);
+        entityManager.flush();
+
+        // Act
+        List<Long> restricted = taskRepository.searchIds("отчет", alice.getId(), 10, 0);
+        List<Long> all = taskRepository.searchIds("отчет", null, 10, 0);
+
+        // Assert
+        assertEquals(List.of(assigned.getId(), authored.getId()), restricted);
+        assertEquals(3, all.size());
+    }
+
+    @Test
+    void searchIds_EqualRanks_PagesAreStableAndCoverNewestCandidates() {
+        // Arrange
+        Task[] tasks = new Task[6];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = persistTask(alice, "Отчет " + i, null, null);
+        }
+        entityManager.flush();
+
+        // Act
+        List<Long> first = taskRepository.searchIds("отчет", null, 2, 0);
+        List<Long> second = taskRepository.searchIds("отчет", null, 2, 2);
+        List<Long> beyondCandidates = taskRepository.searchIds("отчет", null, 2, 4);
+
+        // Assert
+        assertEquals(List.of(tasks[5].getId(), tasks[4].getId()), first);
+        assertEquals(List.of(tasks[3].getId(), tasks[2].getId()), second);
+        assertEquals(first, taskRepository.searchIds("отчет", null, 2, 0));
+        assertTrue(beyondCandidates.isEmpty());
+    }
+
+    private Task persistTask(User author, String title, String description, User assignee) {
+        Task task = persistTask(author, assignee, TaskStatus.PENDING, TaskPriority.MEDIUM);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
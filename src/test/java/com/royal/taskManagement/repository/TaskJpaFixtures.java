@@ -0,0 +1,57 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.entity.Comment;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Сохранение тестовых пользователей, задач и комментариев и доступ к статистике Hibernate
+ * для тестов слоя данных на H2 ({@link TaskDataJpaTest}) и PostgreSQL ({@link PostgresDataJpaTest}).
+ */
+public abstract class TaskJpaFixtures {
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    protected User persistUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        entityManager.persist(user);
+        return user;
+    }
+
+    protected Task persistTask(User author, User assignee, TaskStatus status, TaskPriority priority) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setDescription("Description");
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setAuthor(author);
+        task.setAssignee(assignee);
+        entityManager.persist(task);
+        return task;
+    }
+
+    protected Comment persistComment(Task task, User author) {
+        Comment comment = new Comment();
+        comment.setText("Comment");
+        comment.setTask(task);
+        comment.setAuthor(author);
+        entityManager.persist(comment);
+        return comment;
+    }
+
+    /**
+     * Статистика Hibernate для подсчета SQL-запросов и загруженных сущностей.
+     */
+    protected Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
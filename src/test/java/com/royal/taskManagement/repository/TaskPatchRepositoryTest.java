@@ -0,0 +1,229 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO;
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO.Outcome;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskAccessDTO;
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет точечные изменения задачи запросом {@code UPDATE ... RETURNING}: возвращаемую строку,
+ * увеличение версии, проверку ожидаемой версии и внешний ключ исполнителя, а также групповые изменения
+ * с проверкой прав. Выполняется на PostgreSQL, как в рабочей базе.
+ */
+public class TaskPatchRepositoryTest extends PostgresDataJpaTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User author;
+    private User bob;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author@example.com");
+        bob = persistUser("bob@example.com");
+        task = persistTask(author, null, TaskStatus.PENDING, TaskPriority.LOW);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void updateStatus_ReturnsChangedRowAndIncrementsVersion() {
+        // Act
+        Optional<TaskDTO> result = taskRepository.updateStatus(task.getId(), TaskStatus.COMPLETED, null);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(TaskStatus.COMPLETED, result.get().getStatus());
+        assertEquals(TaskPriority.LOW, result.get().getPriority());
+        assertEquals(author.getId(), result.get().getAuthorId());
+        assertNull(result.get().getAssigneeId());
+        assertEquals(1L, result.get().getVersion());
+        assertNull(result.get().getComments());
+        assertEquals("COMPLETED", jdbcTemplate.queryForObject(
+                "SELECT status FROM task WHERE id = ?", String.class, task.getId()));
+    }
+
+    @Test
+    void updatePriority_StaleOrMissing_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(taskRepository.updatePriority(task.getId(), TaskPriority.HIGH, 5L).isEmpty());
+        assertTrue(taskRepository.updatePriority(task.getId() + 1000, TaskPriority.HIGH, null).isEmpty());
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT version FROM task WHERE id = ?", Long.class, task.getId()));
+        assertEquals(TaskPriority.HIGH,
+                taskRepository.updatePriority(task.getId(), TaskPriority.HIGH, 0L).orElseThrow().getPriority());
+    }
+
+    @Test
+    void findVersionWithParticipantsById_TaskWithoutAssignee_ReturnsVersionAndAuthor() {
+        // Arrange
+        taskRepository.updateStatus(task.getId(), TaskStatus.IN_PROGRESS, null);
+
+        // Act
+        TaskAccessDTO access = taskRepository.findVersionWithParticipantsById(task.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(1L, access.getVersion());
+        assertEquals(author.getId(), access.getAuthorId());
+        assertNull(access.getAssigneeId());
+        assertTrue(access.isParticipant(author.getId()));
+        assertFalse(access.isParticipant(bob.getId()));
+        assertTrue(taskRepository.findVersionWithParticipantsById(task.getId() + 1000).isEmpty());
+    }
+
+    @Test
+    void updateAssignee_ByIdAndUnknownAssigneeViolatesForeignKey() {
+        // Act
+        TaskDTO result = taskRepository.updateAssignee(task.getId(), bob.getId(), null).orElseThrow();
+
+        // Assert: нарушение внешнего ключа прерывает транзакцию PostgreSQL, поэтому проверяется последним
+        assertEquals(bob.getId(), result.getAssigneeId());
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT version FROM task WHERE id = ?", Long.class, task.getId()));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> taskRepository.updateAssignee(task.getId(), 999999L, null));
+    }
+
+    @Test
+    void updateByIds_ReportsOutcomePerIdAndChangesOnlyOwnedTasks() {
+        // Arrange
+        Task foreign = persistTask(bob, null, TaskStatus.PENDING, TaskPriority.LOW);
+        entityManager.flush();
+        TaskBulkUpdateDTO change = new TaskBulkUpdateDTO();
+        change.setStatus(TaskStatus.COMPLETED);
+
+        // Act
+        List<TaskBulkOutcomeDTO> result = taskRepository.updateByIds(
+                List.of(foreign.getId(), 999999L, task.getId(), task.getId()), change, author.getId());
+
+        // Assert
+        assertEquals(List.of(task.getId(), foreign.getId(), 999999L),
+                result.stream().map(TaskBulkOutcomeDTO::getId).toList());
+        assertEquals(List.of(Outcome.UPDATED, Outcome.FORBIDDEN, Outcome.NOT_FOUND),
+                result.stream().map(TaskBulkOutcomeDTO::getOutcome).toList());
+        assertEquals(1L, result.get(0).getVersion());
+        assertEquals("PENDING", jdbcTemplate.queryForObject(
+                "SELECT status FROM task WHERE id = ?", String.class, foreign.getId()));
+    }
+
+    @Test
+    void updateMatching_ChangesFilteredTasksInOneGo() {
+        // Arrange
+        Task second = persistTask(author, null, TaskStatus.PENDING, TaskPriority.LOW);
+        Task foreign = persistTask(bob, null, TaskStatus.PENDING, TaskPriority.LOW);
+        entityManager.flush();
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setStatus(TaskStatus.PENDING);
+        TaskBulkUpdateDTO change = new TaskBulkUpdateDTO();
+        change.setPriority(TaskPriority.HIGH);
+        change.setAssigneeId(bob.getId());
+
+        // Act
+        List<TaskBulkOutcomeDTO> result = taskRepository.updateMatching(filter, change, null);
+
+        // Assert
+        assertEquals(List.of(task.getId(), second.getId(), foreign.getId()),
+                result.stream().map(TaskBulkOutcomeDTO::getId).toList());
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task WHERE priority = 'HIGH' AND assignee_id = ? AND version = 1",
+                Integer.class, bob.getId()));
+    }
+
+    @Test
+    void updateByIds_TasksAssignedToUser_AreUpdatedAlongsideAuthoredOnes() {
+        // Arrange
+        Task assigned = persistTask(bob, author, TaskStatus.PENDING, TaskPriority.LOW);
+        entityManager.flush();
+        TaskBulkUpdateDTO change = new TaskBulkUpdateDTO();
+        change.setPriority(TaskPriority.HIGH);
+
+        // Act
+        List<TaskBulkOutcomeDTO> result = taskRepository.updateByIds(
+                List.of(assigned.getId(), task.getId()), change, author.getId());
+
+        // Assert
+        assertEquals(List.of(Outcome.UPDATED, Outcome.UPDATED),
+                result.stream().map(TaskBulkOutcomeDTO::getOutcome).toList());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task WHERE priority = 'HIGH' AND version = 1", Integer.class));
+    }
+
+    @Test
+    void updateByIds_WithoutRestriction_UpdatesAnyExistingTask() {
+        // Arrange
+        Task foreign = persistTask(bob, null, TaskStatus.PENDING, TaskPriority.LOW);
+        entityManager.flush();
+        TaskBulkUpdateDTO change = new TaskBulkUpdateDTO();
+        change.setStatus(TaskStatus.IN_PROGRESS);
+        change.setAssigneeId(bob.getId());
+
+        // Act
+        List<TaskBulkOutcomeDTO> result = taskRepository.updateByIds(
+                List.of(foreign.getId(), task.getId(), 999999L), change, null);
+
+        // Assert
+        assertEquals(List.of(Outcome.UPDATED, Outcome.UPDATED, Outcome.NOT_FOUND),
+                result.stream().map(TaskBulkOutcomeDTO::getOutcome).toList());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task WHERE status = 'IN_PROGRESS' AND assignee_id = ?", Integer.class, bob.getId()));
+    }
+
+    @Test
+    void updateMatching_Restricted_ChangesOnlyOwnedTasksMatchingAllConditions() {
+        // Arrange
+        Task assigned = persistTask(bob, author, TaskStatus.PENDING, TaskPriority.LOW);
+        persistTask(bob, null, TaskStatus.PENDING, TaskPriority.LOW);
+        persistTask(author, null, TaskStatus.COMPLETED, TaskPriority.LOW);
+        persistTask(author, null, TaskStatus.PENDING, TaskPriority.HIGH);
+        entityManager.flush();
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setStatus(TaskStatus.PENDING);
+        filter.setPriority(TaskPriority.LOW);
+        TaskBulkUpdateDTO change = new TaskBulkUpdateDTO();
+        change.setStatus(TaskStatus.IN_PROGRESS);
+
+        // Act
+        List<TaskBulkOutcomeDTO> result = taskRepository.updateMatching(filter, change, author.getId());
+
+        // Assert
+        assertEquals(List.of(task.getId(), assigned.getId()), result.stream().map(TaskBulkOutcomeDTO::getId).toList());
+        assertTrue(result.stream().allMatch(outcome -> outcome.getVersion() == 1L));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task WHERE status = 'IN_PROGRESS'", Integer.class));
+    }
+
+    @Test
+    void updateMatching_NothingMatches_ReturnsEmpty() {
+        // Arrange
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setAuthorId(bob.getId());
+        TaskBulkUpdateDTO change = new TaskBulkUpdateDTO();
+        change.setStatus(TaskStatus.COMPLETED);
+
+        // Act & Assert
+        assertTrue(taskRepository.updateMatching(filter, change, null).isEmpty());
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT version FROM task WHERE id = ?", Long.class, task.getId()));
+    }
+}
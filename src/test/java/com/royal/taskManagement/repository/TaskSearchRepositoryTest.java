@@ -0,0 +1,26 @@
+package com.royal.taskManagement.repository;
+
+import com.royal.taskManagement.exception.UnsupportedDatabaseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет, что полнотекстовый поиск вне PostgreSQL отклоняется явным исключением,
+ * а не ошибкой синтаксиса запроса.
+ */
+public class TaskSearchRepositoryTest extends TaskDataJpaTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void searchIds_NotPostgres_ThrowsUnsupportedDatabase() {
+        // Act & Assert
+        UnsupportedDatabaseException exception = assertThrows(UnsupportedDatabaseException.class,
+                () -> taskRepository.searchIds("отчет", null, 10, 0));
+        assertTrue(exception.getMessage().contains("PostgreSQL"));
+        assertThrows(UnsupportedDatabaseException.class, () -> taskRepository.searchIds("отчет", 1L, 10, 0));
+    }
+}
@@ -1,6 +1,7 @@
 package com.royal.taskManagement.service;
 
 import com.royal.taskManagement.dto.CommentDTO;
+import com.royal.taskManagement.dto.TaskAccessDTO;
 import com.royal.taskManagement.entity.Comment;
 import com.royal.taskManagement.entity.Role;
 import com.royal.taskManagement.entity.Task;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.*;
 
@@ -27,6 +29,9 @@ public class CommentServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Spy
+    private TaskCache taskCache = new TaskCache(100, 60);
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -103,6 +108,32 @@ public class CommentServiceTest {
         verify(commentRepository, times(1)).save(any(Comment.class));
     }
 
+    @Test
+    void addCommentToTask_InvalidatesCachedTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(commentRepository.save(any(Comment.class))).thenReturn(comment);
+
+        // Act
+        commentService.addCommentToTask(1L, comment, author);
+
+        // Assert
+        verify(taskCache, times(1)).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void addCommentToTask_IncrementsTaskVersion() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(commentRepository.save(any(Comment.class))).thenReturn(comment);
+
+        // Act
+        commentService.addCommentToTask(1L, comment, author);
+
+        // Assert
+        verify(taskRepository, times(1)).incrementVersion(1L);
+    }
+
     @Test
     void addCommentToTask_AsAssignee_Success() {
         // Arrange
@@ -211,6 +242,31 @@ public class CommentServiceTest {
         verify(commentRepository, never()).findByTaskId(anyLong());
     }
 
+    @Test
+    void getTaskVersion_DoesNotLoadComments() {
+        // Arrange
+        when(taskRepository.findVersionWithParticipantsById(1L))
+                .thenReturn(Optional.of(new TaskAccessDTO(5L, author.getId(), assignee.getId())));
+
+        // Act
+        Long version = commentService.getTaskVersion(1L, assignee);
+
+        // Assert
+        assertEquals(5L, version);
+        verify(commentRepository, never()).findByTaskId(anyLong());
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getTaskVersion_Unauthorized_ThrowsException() {
+        // Arrange
+        when(taskRepository.findVersionWithParticipantsById(1L))
+                .thenReturn(Optional.of(new TaskAccessDTO(5L, author.getId(), assignee.getId())));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> commentService.getTaskVersion(1L, unauthorized));
+    }
+
     @Test
     void isUserAuthorizedToComment_Author_ReturnsTrue() {
         // Act
@@ -0,0 +1,86 @@
+package com.royal.taskManagement.service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Микробенчмарк проверки JWT в фильтре запросов.
+ * Сравнивает старую схему (три разбора токена с новым ключом и парсером на каждый вызов)
+ * с однократным разбором через {@link JwtService#verifyToken(String)}.
+ * Запуск: {@code mvn test -Dtest=JwtServiceBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class JwtServiceBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtServiceBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+    private static final int REQUESTS_PER_SECOND = 2_000;
+
+    private static volatile Object sink;
+
+    @Test
+    void verifyToken_IsCheaperThanLegacyTripleParse() {
+        JwtService jwtService = new JwtService(JwtServiceTest.SECRET);
+        UserDetails userDetails = org.springframework.security.core.userdetails.User
+                .withUsername("user@example.com")
+                .password("password")
+                .authorities("USER")
+                .build();
+        String token = jwtService.generateToken(userDetails);
+
+        Runnable legacy = () -> {
+            String username = legacyParse(token).getSubject();
+            boolean valid = legacyParse(token).getSubject().equals(username)
+                    && !legacyParse(token).getExpiration().before(new Date());
+            sink = valid;
+        };
+        Runnable singleParse = () -> sink = jwtService.verifyToken(token).orElseThrow();
+
+        double legacyNanos = measure(legacy);
+        double singleParseNanos = measure(singleParse);
+
+        logger.info("legacy (3 parses): {}", String.format("%.2f us/request, %.4f cores at %d req/s",
+                legacyNanos / 1_000, cores(legacyNanos), REQUESTS_PER_SECOND));
+        logger.info("verifyToken (1 parse): {}", String.format("%.2f us/request, %.4f cores at %d req/s",
+                singleParseNanos / 1_000, cores(singleParseNanos), REQUESTS_PER_SECOND));
+        logger.info("saved: {}", String.format("%.2f us/request, %.1f ms CPU per second",
+                (legacyNanos - singleParseNanos) / 1_000,
+                (legacyNanos - singleParseNanos) * REQUESTS_PER_SECOND / 1_000_000));
+
+        assertTrue(singleParseNanos < legacyNanos);
+    }
+
+    private static io.jsonwebtoken.Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(JwtServiceTest.SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static double measure(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    private static double cores(double nanosPerRequest) {
+        return nanosPerRequest * REQUESTS_PER_SECOND / 1_000_000_000;
+    }
+}
@@ -0,0 +1,139 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtServiceTest {
+
+    static final String SECRET = "zxcdsg343t5k34s45t4ws6yts546yse645t6ytr-test-secret";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET);
+        userDetails = org.springframework.security.core.userdetails.User
+                .withUsername("user@example.com")
+                .password("password")
+                .authorities("USER")
+                .build();
+    }
+
+    @Test
+    void verifyToken_ValidToken_ReturnsClaims() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+
+        // Act
+        Optional<VerifiedToken> result = jwtService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("user@example.com", result.get().getUsername());
+        assertNotNull(result.get().getIssuedAt());
+        assertTrue(result.get().getExpiration().isAfter(result.get().getIssuedAt()));
+    }
+
+    @Test
+    void generateToken_ForUser_CarriesIdRolesAndVersion() {
+        // Arrange
+        Role userRole = new Role();
+        userRole.setName("USER");
+        Role adminRole = new Role();
+        adminRole.setName("ADMIN");
+        User user = new User(List.of(userRole, adminRole));
+        user.setId(42L);
+        user.setEmail("user@example.com");
+        user.setTokenVersion(3L);
+
+        // Act
+        VerifiedToken result = jwtService.verifyToken(jwtService.generateToken(user)).orElseThrow();
+
+        // Assert
+        assertTrue(result.hasUserClaims());
+        assertEquals("user@example.com", result.getUsername());
+        assertEquals(42L, result.getUserId());
+        assertEquals(List.of("USER", "ADMIN"), result.getRoles());
+        assertEquals(3L, result.getTokenVersion());
+    }
+
+    @Test
+    void generateRefreshToken_IsRefreshTypeWithUniqueId() {
+        // Arrange
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("user@example.com");
+
+        // Act
+        VerifiedToken access = jwtService.verifyToken(jwtService.generateToken(user)).orElseThrow();
+        VerifiedToken refresh = jwtService.verifyToken(jwtService.generateRefreshToken(user)).orElseThrow();
+
+        // Assert
+        assertFalse(access.isRefreshToken());
+        assertTrue(refresh.isRefreshToken());
+        assertEquals(42L, refresh.getUserId());
+        assertNotNull(refresh.getTokenId());
+        assertNotEquals(access.getTokenId(), refresh.getTokenId());
+        assertTrue(refresh.getExpiration().isAfter(access.getExpiration()));
+    }
+
+    @Test
+    void generateToken_ForUserDetails_HasNoUserClaims() {
+        // Act
+        VerifiedToken result = jwtService.verifyToken(jwtService.generateToken(userDetails)).orElseThrow();
+
+        // Assert
+        assertFalse(result.hasUserClaims());
+    }
+
+    @Test
+    void verifyToken_TamperedToken_ReturnsEmpty() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        assertTrue(jwtService.verifyToken(tampered).isEmpty());
+    }
+
+    @Test
+    void verifyToken_ForeignKey_ReturnsEmpty() {
+        // Arrange
+        String token = new JwtService(SECRET + "-other").generateToken(userDetails);
+
+        // Act & Assert
+        assertTrue(jwtService.verifyToken(token).isEmpty());
+    }
+
+    @Test
+    void verifyToken_ExpiredToken_ReturnsEmpty() {
+        // Arrange
+        String token = Jwts.builder()
+                .subject("user@example.com")
+                .issuedAt(new Date(System.currentTimeMillis() - 20_000))
+                .expiration(new Date(System.currentTimeMillis() - 10_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), Jwts.SIG.HS256)
+                .compact();
+
+        // Act & Assert
+        assertTrue(jwtService.verifyToken(token).isEmpty());
+    }
+
+    @Test
+    void verifyToken_Garbage_ReturnsEmpty() {
+        assertTrue(jwtService.verifyToken("not-a-jwt").isEmpty());
+        assertTrue(jwtService.verifyToken("").isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private AtomicLong nanos;
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        // 6 попыток в минуту (одна в 10 секунд) и всплеск из 3 попыток на почту, 100 в минуту на IP
+        limiter = new LoginRateLimiter(6, 3, 100, 100, 1000, nanos::get);
+    }
+
+    @Test
+    void checkLogin_BurstWithinLimit_Allowed() {
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> limiter.checkLogin("user@example.com", "10.0.0.1"));
+        }
+    }
+
+    @Test
+    void checkLogin_OverBurst_RejectedWithRetryAfter() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("user@example.com", "10.0.0.1");
+        }
+
+        // Act
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> limiter.checkLogin("USER@example.com", "10.0.0.2"));
+
+        // Assert
+        assertEquals(10, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void checkLogin_AfterEmissionInterval_AllowedAgain() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("user@example.com", "10.0.0.1");
+        }
+
+        // Act
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Assert
+        assertDoesNotThrow(() -> limiter.checkLogin("user@example.com", "10.0.0.1"));
+        assertThrows(RateLimitExceededException.class, () -> limiter.checkLogin("user@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void checkLogin_ManyEmailsFromOneIp_LimitedByIp() {
+        // Arrange
+        LoginRateLimiter ipLimited = new LoginRateLimiter(100, 100, 6, 2, 1000, nanos::get);
+        ipLimited.checkLogin("a@example.com", "10.0.0.1");
+        ipLimited.checkLogin("b@example.com", "10.0.0.1");
+
+        // Act & Assert
+        assertThrows(RateLimitExceededException.class, () -> ipLimited.checkLogin("c@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> ipLimited.checkLogin("c@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void checkLogin_ConcurrentAttempts_NeverExceedBurst() throws Exception {
+        // Arrange
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            pool.execute(() -> {
+                try {
+                    limiter.checkLogin("user@example.com", null);
+                    allowed.incrementAndGet();
+                } catch (RateLimitExceededException ignored) {
+                    // ожидаемо для попыток сверх лимита
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(3, allowed.get());
+    }
+}
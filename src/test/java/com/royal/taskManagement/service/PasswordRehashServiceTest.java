@@ -0,0 +1,77 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PasswordRehashServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCache userCache;
+
+    private PasswordHashingExecutor executor;
+    private PasswordRehashService passwordRehashService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executor = new PasswordHashingExecutor(1, 4, 5000, 1, new SimpleMeterRegistry());
+        PasswordStrengthCalibrator calibrator = new PasswordStrengthCalibrator(5, 100, 4, 16, strength -> 0L);
+        passwordRehashService = new PasswordRehashService(calibrator, executor, userRepository, userCache);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void rehashIfNeeded_OutdatedHash_UpdatesInBackground() {
+        // Arrange
+        String oldHash = new BCryptPasswordEncoder(4).encode("password");
+        user.setPassword(oldHash);
+        when(userRepository.updatePassword(eq(1L), eq(oldHash), anyString())).thenReturn(1);
+
+        // Act
+        boolean scheduled = passwordRehashService.rehashIfNeeded(user, "password");
+
+        // Assert
+        assertTrue(scheduled);
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, timeout(5000)).updatePassword(eq(1L), eq(oldHash), newHash.capture());
+        assertTrue(newHash.getValue().startsWith("$2a$05$"));
+        assertTrue(new BCryptPasswordEncoder().matches("password", newHash.getValue()));
+        verify(userCache, timeout(5000)).invalidateAfterCommit(1L, "user@example.com");
+    }
+
+    @Test
+    void rehashIfNeeded_CurrentHash_DoesNothing() {
+        // Arrange
+        user.setPassword(new BCryptPasswordEncoder(5).encode("password"));
+
+        // Act
+        boolean scheduled = passwordRehashService.rehashIfNeeded(user, "password");
+
+        // Assert
+        assertFalse(scheduled);
+        verifyNoInteractions(userRepository, userCache);
+    }
+}
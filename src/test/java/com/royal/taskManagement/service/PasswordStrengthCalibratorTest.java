@@ -0,0 +1,41 @@
+package com.royal.taskManagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordStrengthCalibratorTest {
+
+    @Test
+    void calibrate_PicksHighestStrengthWithinTarget() {
+        // Arrange: стоимость 10 занимает 20 мс, каждая следующая вдвое дольше
+        PasswordStrengthCalibrator calibrator = new PasswordStrengthCalibrator(0, 100, 10, 16,
+                strength -> 20L << (strength - 10));
+
+        // Act
+        int strength = calibrator.getStrength();
+
+        // Assert: 12 -> 80 мс, 13 -> 160 мс
+        assertEquals(12, strength);
+    }
+
+    @Test
+    void calibrate_SlowHardware_NeverGoesBelowMinimum() {
+        // Arrange
+        PasswordStrengthCalibrator calibrator = new PasswordStrengthCalibrator(0, 100, 10, 16, strength -> 500L);
+
+        // Act & Assert
+        assertEquals(10, calibrator.getStrength());
+    }
+
+    @Test
+    void calibrate_FixedStrength_SkipsMeasurement() {
+        // Arrange
+        PasswordStrengthCalibrator calibrator = new PasswordStrengthCalibrator(11, 100, 10, 16, strength -> {
+            throw new AssertionError("Измерение не должно выполняться");
+        });
+
+        // Act & Assert
+        assertEquals(11, calibrator.getStrength());
+    }
+}
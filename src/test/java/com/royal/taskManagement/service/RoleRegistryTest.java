@@ -0,0 +1,71 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleRegistry roleRegistry;
+
+    private Role userRole;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        userRole = new Role();
+        userRole.setId(1L);
+        userRole.setName("USER");
+    }
+
+    @Test
+    void ensureRoles_CreatesMissingRoles_AndServesFromMemory() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of(userRole));
+        when(roleRepository.save(any(Role.class))).thenAnswer(invocation -> {
+            Role role = invocation.getArgument(0);
+            role.setId(2L);
+            return role;
+        });
+
+        // Act
+        roleRegistry.ensureRoles("ADMIN", "USER");
+        Role admin = roleRegistry.getRole("ADMIN");
+        Role user = roleRegistry.getRole("USER");
+
+        // Assert
+        assertEquals(2L, admin.getId());
+        assertSame(userRole, user);
+        verify(roleRepository, times(1)).findAll();
+        verify(roleRepository, times(1)).save(any(Role.class));
+    }
+
+    @Test
+    void getRole_UnknownRole_LoadsOnce() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of(userRole));
+
+        // Act
+        roleRegistry.getRole("USER");
+        Role result = roleRegistry.getRole("USER");
+
+        // Assert
+        assertSame(userRole, result);
+        verify(roleRepository, times(1)).findAll();
+        verify(roleRepository, never()).save(any(Role.class));
+    }
+}
@@ -0,0 +1,162 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO;
+import com.royal.taskManagement.dto.TaskBulkOutcomeDTO.Outcome;
+import com.royal.taskManagement.dto.TaskBulkUpdateDTO;
+import com.royal.taskManagement.dto.TaskBulkUpdateResultDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.ConflictException;
+import com.royal.taskManagement.exception.ResourceNotFoundException;
+import com.royal.taskManagement.repository.CommentRepository;
+import com.royal.taskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private TaskCache taskCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TaskBulkServiceImpl taskBulkService;
+
+    private User user;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskCache = spy(new TaskCache(100, 60));
+        meterRegistry = new SimpleMeterRegistry();
+        taskBulkService = new TaskBulkServiceImpl(taskRepository, commentRepository, taskCache,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new ConflictRetry(2, 0, meterRegistry), 3);
+
+        Role userRole = new Role();
+        userRole.setName("USER");
+        Role adminRole = new Role();
+        adminRole.setName("ADMIN");
+
+        user = new User();
+        user.setId(1L);
+        user.setRoles(Set.of(userRole));
+
+        admin = new User();
+        admin.setId(2L);
+        admin.setRoles(Set.of(adminRole));
+    }
+
+    @Test
+    void updateTasks_ByIds_RestrictsToOwnTasksAndInvalidatesUpdated() {
+        // Arrange
+        TaskBulkUpdateDTO request = statusChange(List.of(10L, 11L));
+        when(taskRepository.updateByIds(List.of(10L, 11L), request, 1L)).thenReturn(List.of(
+                new TaskBulkOutcomeDTO(10L, Outcome.UPDATED, 4L),
+                new TaskBulkOutcomeDTO(11L, Outcome.FORBIDDEN, null)));
+
+        // Act
+        TaskBulkUpdateResultDTO result = taskBulkService.updateTasks(request, user);
+
+        // Assert
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getResults().size());
+        verify(taskCache, times(1)).invalidateAfterCommit(10L);
+        verify(taskCache, never()).invalidateAfterCommit(11L);
+    }
+
+    @Test
+    void updateTasks_LockConflict_RetriesWholeTransactionThenGivesUp() {
+        // Arrange
+        TaskBulkUpdateDTO request = statusChange(List.of(10L));
+        when(taskRepository.updateByIds(List.of(10L), request, null))
+                .thenThrow(new CannotAcquireLockException("deadlock detected"))
+                .thenReturn(List.of(new TaskBulkOutcomeDTO(10L, Outcome.UPDATED, 2L)))
+                .thenThrow(new CannotAcquireLockException("deadlock detected"));
+
+        // Act
+        TaskBulkUpdateResultDTO result = taskBulkService.updateTasks(request, admin);
+
+        // Assert
+        assertEquals(1, result.getUpdated());
+        assertThrows(ConflictException.class, () -> taskBulkService.updateTasks(request, admin));
+        verify(taskRepository, times(4)).updateByIds(List.of(10L), request, null);
+        assertEquals(2, meterRegistry.counter("task.conflict.retries").count());
+    }
+
+    @Test
+    void updateTasks_ByFilterAsAdmin_IsNotRestricted() {
+        // Arrange
+        TaskBulkUpdateDTO request = statusChange(null);
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setStatus(TaskStatus.IN_PROGRESS);
+        request.setFilter(filter);
+        when(taskRepository.updateMatching(filter, request, null)).thenReturn(List.of());
+
+        // Act
+        TaskBulkUpdateResultDTO result = taskBulkService.updateTasks(request, admin);
+
+        // Assert
+        assertEquals(0, result.getUpdated());
+        verify(taskRepository, times(1)).updateMatching(filter, request, null);
+    }
+
+    @Test
+    void updateTasks_InvalidRequests_ThrowIllegalArgument() {
+        // Arrange
+        TaskBulkUpdateDTO noChanges = new TaskBulkUpdateDTO();
+        noChanges.setIds(List.of(1L));
+        TaskBulkUpdateDTO noTargets = statusChange(null);
+        TaskBulkUpdateDTO tooMany = statusChange(List.of(1L, 2L, 3L, 4L));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskBulkService.updateTasks(noChanges, admin));
+        assertThrows(IllegalArgumentException.class, () -> taskBulkService.updateTasks(noTargets, admin));
+        assertThrows(IllegalArgumentException.class, () -> taskBulkService.updateTasks(tooMany, admin));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void updateTasks_AssigneeChange_RequiresAdminAndExistingAssignee() {
+        // Arrange
+        TaskBulkUpdateDTO request = new TaskBulkUpdateDTO();
+        request.setIds(List.of(10L));
+        request.setAssigneeId(99L);
+        when(taskRepository.updateByIds(any(), eq(request), any()))
+                .thenThrow(new DataIntegrityViolationException("fk_task_assignee"));
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> taskBulkService.updateTasks(request, user));
+        assertThrows(ResourceNotFoundException.class, () -> taskBulkService.updateTasks(request, admin));
+    }
+
+    private static TaskBulkUpdateDTO statusChange(List<Long> ids) {
+        TaskBulkUpdateDTO request = new TaskBulkUpdateDTO();
+        request.setIds(ids);
+        request.setStatus(TaskStatus.COMPLETED);
+        return request;
+    }
+}
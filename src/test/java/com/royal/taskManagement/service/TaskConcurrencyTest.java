@@ -0,0 +1,189 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.ConflictException;
+import com.royal.taskManagement.exception.PreconditionFailedException;
+import com.royal.taskManagement.repository.PostgresDataJpaTest;
+import com.royal.taskManagement.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Нагружает одну задачу изменениями из многих потоков и проверяет, что версия задачи
+ * учитывает каждое примененное изменение: изменения не теряются, а отклоненные завершаются 409 или 412.
+ * Тест не оборачивается в транзакцию, чтобы каждый поток фиксировал свои изменения, как отдельные HTTP-запросы.
+ * Выполняется на PostgreSQL, где точечные изменения идут запросом {@code UPDATE ... RETURNING}.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TaskServiceSlice
+public class TaskConcurrencyTest extends PostgresDataJpaTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    private User author;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            author = persistUser("author@example.com");
+            Task task = persistTask(author, null, TaskStatus.PENDING, TaskPriority.LOW);
+            entityManager.flush();
+            taskId = task.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM task");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void updateTaskStatus_ManyThreadsWithoutIfMatch_AllChangesApplied() throws Exception {
+        // Arrange
+        TaskStatus[] statuses = TaskStatus.values();
+
+        // Act
+        List<Integer> applied = hammer(thread -> {
+            int count = 0;
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                taskService.updateTaskStatus(taskId, statuses[(thread + i) % statuses.length], author);
+                count++;
+            }
+            return count;
+        });
+
+        // Assert
+        assertEquals(THREADS * UPDATES_PER_THREAD, applied.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(THREADS * UPDATES_PER_THREAD, currentVersion());
+    }
+
+    @Test
+    void updateTask_ReadModifyWriteWithIfMatch_NoLostUpdates() throws Exception {
+        // Arrange
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger preconditionFailed = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+
+        // Act
+        hammer(thread -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                withEntityManager(() -> {
+                    long version = currentVersion();
+                    TaskDTO change = new TaskDTO();
+                    change.setTitle("Thread " + thread + " update " + version);
+                    change.setDescription("Description");
+                    change.setStatus(TaskStatus.IN_PROGRESS);
+                    change.setPriority(TaskPriority.HIGH);
+                    try {
+                        taskService.updateTask(taskId, change, author, version);
+                        succeeded.incrementAndGet();
+                    } catch (PreconditionFailedException e) {
+                        preconditionFailed.incrementAndGet();
+                    } catch (ConflictException e) {
+                        conflicted.incrementAndGet();
+                    }
+                });
+            }
+            return null;
+        });
+
+        // Assert
+        assertEquals(THREADS * UPDATES_PER_THREAD,
+                succeeded.get() + preconditionFailed.get() + conflicted.get());
+        assertTrue(succeeded.get() > 0);
+        assertEquals(succeeded.get(), currentVersion());
+    }
+
+    /**
+     * Запускает тело одновременно во всех потоках и дожидается их завершения; исключение любого потока проваливает тест.
+     */
+    private <T> List<T> hammer(ThreadBody<T> body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int index = thread;
+                futures.add(executor.submit((Callable<T>) () -> {
+                    start.await();
+                    return body.run(index);
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Открывает контекст персистентности на время запроса, как это делает open-in-view в веб-приложении.
+     */
+    private void withEntityManager(Runnable request) {
+        EntityManagerHolder holder = new EntityManagerHolder(entityManagerFactory.createEntityManager());
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+        try {
+            request.run();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            holder.getEntityManager().close();
+        }
+    }
+
+    private long currentVersion() {
+        return taskRepository.findVersionById(taskId).orElseThrow();
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody<T> {
+        T run(int thread) throws Exception;
+    }
+}
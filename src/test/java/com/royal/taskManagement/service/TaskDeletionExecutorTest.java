@@ -0,0 +1,118 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.exception.ServiceOverloadedException;
+import com.royal.taskManagement.repository.CommentRepository;
+import com.royal.taskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaskDeletionExecutorTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCache taskCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TaskDeletionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskCache = spy(new TaskCache(100, 60));
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new TaskDeletionExecutor(taskRepository, commentRepository, taskCache,
+                new TransactionTemplate(transactionManager), new ConflictRetry(3, 0, meterRegistry), meterRegistry, 1000, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void delete_RemovesCommentsInBatchesThenTask() {
+        // Arrange
+        when(commentRepository.deleteBatchByTaskId(1L, 1000)).thenReturn(1000, 1000, 5, 0);
+
+        // Act
+        executor.delete(1L);
+
+        // Assert
+        InOrder inOrder = inOrder(commentRepository, taskRepository);
+        inOrder.verify(commentRepository, times(4)).deleteBatchByTaskId(1L, 1000);
+        inOrder.verify(commentRepository).deleteAllByTaskId(1L);
+        inOrder.verify(taskRepository).deleteRowById(1L);
+        verify(taskCache, times(1)).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void delete_FinalTransactionDeadlock_RetriedUntilTaskDeleted() {
+        // Arrange
+        when(taskRepository.deleteRowById(1L))
+                .thenThrow(new CannotAcquireLockException("deadlock"))
+                .thenReturn(1);
+
+        // Act
+        executor.delete(1L);
+
+        // Assert
+        verify(commentRepository, times(2)).deleteAllByTaskId(1L);
+        verify(taskRepository, times(2)).deleteRowById(1L);
+        assertEquals(0, meterRegistry.counter("task.deletion.failures").count());
+    }
+
+    @Test
+    void delete_Fails_CountsFailure() {
+        // Arrange
+        when(commentRepository.deleteBatchByTaskId(1L, 1000)).thenThrow(new IllegalStateException("connection lost"));
+
+        // Act
+        executor.delete(1L);
+
+        // Assert
+        assertEquals(1, meterRegistry.counter("task.deletion.failures").count());
+        verify(taskRepository, never()).deleteRowById(anyLong());
+    }
+
+    @Test
+    void submit_QueueFull_ThrowsServiceOverloaded() throws InterruptedException {
+        // Arrange: единственный поток занят, очередь на одну задачу заполнена
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentRepository.deleteBatchByTaskId(1L, 1000)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+        executor.submit(1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.submit(2L);
+
+        // Act & Assert
+        ServiceOverloadedException e = assertThrows(ServiceOverloadedException.class, () -> executor.submit(3L));
+        assertEquals(1, e.getRetryAfterSeconds());
+        release.countDown();
+    }
+}
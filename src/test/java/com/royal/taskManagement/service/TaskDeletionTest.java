@@ -0,0 +1,100 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskBulkDeleteResultDTO;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.ResourceNotFoundException;
+import com.royal.taskManagement.repository.TaskDataJpaTest;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет, что задачи удаляются запросами над множеством строк: число SQL-запросов
+ * не зависит от количества комментариев, а комментарии не загружаются в контекст персистентности.
+ */
+@TaskServiceSlice
+public class TaskDeletionTest extends TaskDataJpaTest {
+
+    private static final int COMMENTS_PER_TASK = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private TaskBulkServiceImpl taskBulkService;
+
+    private User author;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author@example.com");
+        statistics = statistics();
+    }
+
+    @Test
+    void deleteTask_ManyComments_UsesTwoStatements() {
+        // Arrange
+        Task task = persistTaskWithComments();
+        Task other = persistTaskWithComments();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        taskService.deleteTask(task.getId(), author);
+
+        // Assert: комментарии задачи одним запросом, затем задача
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, count("SELECT COUNT(*) FROM task WHERE id = ?", task.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM comment WHERE task_id = ?", task.getId()));
+        assertEquals(COMMENTS_PER_TASK, count("SELECT COUNT(*) FROM comment WHERE task_id = ?", other.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(task.getId(), author));
+    }
+
+    @Test
+    void deleteTasks_DeletesTasksAndCommentsAndReportsMissing() {
+        // Arrange
+        Task first = persistTaskWithComments();
+        Task second = persistTaskWithComments();
+        Task kept = persistTaskWithComments();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        TaskBulkDeleteResultDTO result = taskBulkService.deleteTasks(
+                List.of(first.getId(), second.getId(), 999999L, first.getId()), author);
+
+        // Assert: проверка существования, комментарии и задачи — по одному запросу
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(2, result.getDeleted());
+        assertEquals(2L * COMMENTS_PER_TASK, result.getDeletedComments());
+        assertEquals(List.of(999999L), result.getNotFound());
+        assertEquals(1, count("SELECT COUNT(*) FROM task WHERE id IN (?, ?, ?)", first.getId(), second.getId(), kept.getId()));
+    }
+
+    private Task persistTaskWithComments() {
+        Task task = persistTask(author, null, TaskStatus.PENDING, TaskPriority.LOW);
+        for (int i = 0; i < COMMENTS_PER_TASK; i++) {
+            persistComment(task, author);
+        }
+        entityManager.flush();
+        return task;
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
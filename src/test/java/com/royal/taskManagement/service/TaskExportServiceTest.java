@@ -0,0 +1,103 @@
+package com.royal.taskManagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.royal.taskManagement.dto.TaskExportDTO;
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskExportServiceImpl taskExportService;
+
+    private User user;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskExportService = new TaskExportServiceImpl(taskRepository, new ObjectMapper());
+
+        Role userRole = new Role();
+        userRole.setName("USER");
+        Role adminRole = new Role();
+        adminRole.setName("ADMIN");
+
+        user = new User();
+        user.setId(1L);
+        user.setRoles(new HashSet<>(Collections.singletonList(userRole)));
+
+        admin = new User();
+        admin.setId(3L);
+        admin.setRoles(new HashSet<>(Collections.singletonList(adminRole)));
+    }
+
+    @Test
+    void exportAsNdjson_NonAdmin_WritesOneObjectPerLineForVisibleTasks() {
+        // Arrange
+        when(taskRepository.streamVisibleForExport(1L)).thenReturn(Stream.of(
+                new TaskExportDTO(1L, "First", "d", TaskStatus.PENDING, TaskPriority.HIGH, 1L, null),
+                new TaskExportDTO(2L, "Second", null, TaskStatus.COMPLETED, TaskPriority.LOW, 2L, 1L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.exportAsNdjson(user, out);
+
+        // Assert
+        assertEquals("{\"id\":1,\"title\":\"First\",\"description\":\"d\",\"status\":\"PENDING\",\"priority\":\"HIGH\","
+                        + "\"authorId\":1,\"assigneeId\":null}\n"
+                        + "{\"id\":2,\"title\":\"Second\",\"description\":null,\"status\":\"COMPLETED\",\"priority\":\"LOW\","
+                        + "\"authorId\":2,\"assigneeId\":1}\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(taskRepository, never()).streamAllForExport();
+    }
+
+    @Test
+    void exportAsCsv_Admin_QuotesFieldsWithSeparators() {
+        // Arrange
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.of(
+                new TaskExportDTO(7L, "Отчет, итог", "Строка \"1\"\nстрока 2", TaskStatus.IN_PROGRESS,
+                        TaskPriority.MEDIUM, 3L, null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.exportAsCsv(admin, out);
+
+        // Assert
+        assertEquals(TaskExportDTO.CSV_HEADER + "\r\n"
+                        + "7,\"Отчет, итог\",\"Строка \"\"1\"\"\nстрока 2\",IN_PROGRESS,MEDIUM,3,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(taskRepository, never()).streamVisibleForExport(anyLong());
+    }
+
+    @Test
+    void exportAsCsv_ClosesCursorStream() {
+        // Arrange
+        boolean[] closed = {false};
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.<TaskExportDTO>empty().onClose(() -> closed[0] = true));
+
+        // Act
+        taskExportService.exportAsCsv(admin, new ByteArrayOutputStream());
+
+        // Assert
+        assertTrue(closed[0]);
+    }
+}
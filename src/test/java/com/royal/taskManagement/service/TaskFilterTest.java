@@ -0,0 +1,154 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.CursorPageDTO;
+import com.royal.taskManagement.dto.PageDTO;
+import com.royal.taskManagement.dto.SliceDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.dto.TaskListResponse;
+import com.royal.taskManagement.dto.TaskSummaryDTO;
+import com.royal.taskManagement.entity.Role;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.repository.TaskDataJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет фильтрацию задач по статусу, приоритету, автору и исполнителю
+ * с учетом видимости задач пользователю во всех режимах выборки.
+ */
+@TaskServiceSlice
+public class TaskFilterTest extends TaskDataJpaTest {
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    private User alice;
+    private User bob;
+    private User admin;
+    private final List<Long> aliceHighInProgress = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Role adminRole = new Role();
+        adminRole.setName("ADMIN");
+        entityManager.persist(adminRole);
+        alice = persistUser("alice@example.com");
+        bob = persistUser("bob@example.com");
+        admin = persistUser("admin@example.com");
+        admin.setRoles(Set.of(adminRole));
+
+        for (int i = 0; i < 12; i++) {
+            TaskStatus status = i % 2 == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING;
+            TaskPriority priority = i % 3 == 0 ? TaskPriority.LOW : TaskPriority.HIGH;
+            Task own = persistTask(alice, null, status, priority);
+            if (status == TaskStatus.IN_PROGRESS && priority == TaskPriority.HIGH) {
+                aliceHighInProgress.add(own.getId());
+            }
+            Task assigned = persistTask(bob, i < 2 ? alice : null, status, priority);
+            if (i < 2 && status == TaskStatus.IN_PROGRESS && priority == TaskPriority.HIGH) {
+                aliceHighInProgress.add(assigned.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listTasks_Filtered_NonAdmin_ReturnsOnlyVisibleMatchingTasks() {
+        // Arrange
+        TaskFilterDTO filter = filter(TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+
+        // Act
+        PageDTO<?> page = assertInstanceOf(PageDTO.class, taskService.listTasks(alice,
+                TaskListQuery.of(TaskListQuery.Scope.VISIBLE, null, null, null, filter), PageRequest.of(0, 50, Sort.by("id"))));
+
+        // Assert
+        assertEquals(aliceHighInProgress.stream().sorted().toList(), ids(page));
+        assertEquals(aliceHighInProgress.size(), page.getTotalElements());
+    }
+
+    @Test
+    void listTasks_Filtered_Admin_FiltersByAuthorAcrossAllTasks() {
+        // Arrange
+        TaskFilterDTO filter = filter(null, TaskPriority.LOW);
+        filter.setAuthorId(bob.getId());
+
+        // Act
+        PageDTO<?> page = assertInstanceOf(PageDTO.class, taskService.listTasks(admin,
+                TaskListQuery.of(TaskListQuery.Scope.VISIBLE, null, null, null, filter), PageRequest.of(0, 50)));
+
+        // Assert
+        assertEquals(4, page.getTotalElements());
+        assertTrue(summaries(page).stream().allMatch(task ->
+                task.getAuthorId().equals(bob.getId()) && task.getPriority() == TaskPriority.LOW));
+    }
+
+    @Test
+    void listTasks_FilteredSlice_SecondPage_ContinuesAfterFirstPage() {
+        // Arrange
+        TaskFilterDTO filter = filter(null, TaskPriority.HIGH);
+        filter.setAuthorId(alice.getId());
+
+        // Act
+        TaskListQuery sliceQuery = TaskListQuery.of(TaskListQuery.Scope.VISIBLE, null, null, "none", filter);
+        SliceDTO<?> first = assertInstanceOf(SliceDTO.class,
+                taskService.listTasks(alice, sliceQuery, PageRequest.of(0, 3, Sort.by("id"))));
+        SliceDTO<?> second = assertInstanceOf(SliceDTO.class,
+                taskService.listTasks(alice, sliceQuery, PageRequest.of(1, 3, Sort.by("id"))));
+        TaskListResponse<?> all = taskService.listTasks(alice,
+                TaskListQuery.of(TaskListQuery.Scope.VISIBLE, null, null, null, filter), PageRequest.of(0, 50, Sort.by("id")));
+
+        // Assert
+        assertTrue(first.isHasNext());
+        assertTrue(second.isHasNext());
+        List<Long> walked = new ArrayList<>(ids(first));
+        walked.addAll(ids(second));
+        assertEquals(ids(all).subList(0, 6), walked);
+    }
+
+    @Test
+    void listTasks_Filtered_Cursor_WalksAllMatchingTasks() {
+        // Arrange
+        TaskFilterDTO filter = filter(TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        List<Long> walked = new ArrayList<>();
+
+        // Act
+        String cursor = "";
+        do {
+            CursorPageDTO<?> page = assertInstanceOf(CursorPageDTO.class, taskService.listTasks(alice,
+                    TaskListQuery.of(TaskListQuery.Scope.VISIBLE, null, cursor, null, filter), PageRequest.of(0, 2)));
+            walked.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(aliceHighInProgress.stream().sorted().toList(), walked);
+    }
+
+    private static List<TaskSummaryDTO> summaries(TaskListResponse<?> response) {
+        return response.getContent().stream().map(TaskSummaryDTO.class::cast).toList();
+    }
+
+    private static List<Long> ids(TaskListResponse<?> response) {
+        return summaries(response).stream().map(TaskSummaryDTO::getId).toList();
+    }
+
+    private TaskFilterDTO filter(TaskStatus status, TaskPriority priority) {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setStatus(status);
+        filter.setPriority(priority);
+        return filter;
+    }
+}
@@ -0,0 +1,162 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.TaskImportReportDTO;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.exception.TaskImportAbortedException;
+import com.royal.taskManagement.repository.PostgresDataJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет построчную валидацию импорта, пакетную проверку пользователей, загрузку командой COPY
+ * и отчет об ошибках, в том числе отчет о загруженной части прерванного импорта. Выполняется на PostgreSQL.
+ */
+@Import({TaskImportServiceImpl.class, JacksonAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "app.taskImportBatchSize=2",
+        "app.taskImportMaxErrors=3"
+})
+public class TaskImportTest extends PostgresDataJpaTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskImportServiceImpl taskImportService;
+
+    private User admin;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        admin = persistUser("admin@example.com");
+        bob = persistUser("bob@example.com");
+        entityManager.flush();
+    }
+
+    @Test
+    void importNdjson_ReportsInvalidRowsAndLoadsTheRest() {
+        // Arrange
+        String body = String.join("\n",
+                "{\"title\":\"First\",\"description\":\"d\",\"status\":\"PENDING\",\"priority\":\"HIGH\",\"assigneeId\":" + bob.getId() + "}",
+                "{\"title\":\"\",\"status\":\"PENDING\",\"priority\":\"HIGH\"}",
+                "not json",
+                "",
+                "{\"title\":\"Unknown assignee\",\"status\":\"PENDING\",\"priority\":\"LOW\",\"assigneeId\":999999}",
+                "{\"title\":\"By bob\",\"status\":\"COMPLETED\",\"priority\":\"LOW\",\"authorId\":" + bob.getId() + "}",
+                "{\"title\":\"Bad status\",\"status\":\"DONE\",\"priority\":\"LOW\"}");
+
+        // Act
+        TaskImportReportDTO report = taskImportService.importNdjson(stream(body), admin);
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getRejected());
+        assertEquals(List.of(2L, 3L, 5L), report.getErrors().stream().map(e -> e.getRow()).toList());
+        assertTrue(report.isErrorsTruncated());
+        assertEquals("Исполнитель не найден: 999999", report.getErrors().get(2).getMessage());
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT title, author_id, assignee_id, version FROM task ORDER BY id");
+        assertEquals("First", rows.get(0).get("title"));
+        assertEquals(bob.getId(), ((Number) rows.get(0).get("assignee_id")).longValue());
+        assertEquals(admin.getId(), ((Number) rows.get(0).get("author_id")).longValue());
+        assertEquals(bob.getId(), ((Number) rows.get(1).get("author_id")).longValue());
+        assertEquals(0L, ((Number) rows.get(1).get("version")).longValue());
+    }
+
+    @Test
+    void importCsv_ReadsQuotedFieldsInAnyColumnOrder() {
+        // Arrange
+        String body = "priority,title,status,description,assigneeId\r\n"
+                + "HIGH,\"Отчет, итог\",PENDING,\"Строка \"\"1\"\"\nстрока 2\"," + bob.getId() + "\r\n"
+                + "LOW,Second,IN_PROGRESS,,\r\n";
+
+        // Act
+        TaskImportReportDTO report = taskImportService.importCsv(stream(body), admin);
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(0, report.getRejected());
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT title, description, assignee_id FROM task ORDER BY id");
+        assertEquals("Отчет, итог", rows.get(0).get("title"));
+        assertEquals("Строка \"1\"\nстрока 2", rows.get(0).get("description"));
+        assertNull(rows.get(1).get("description"));
+        assertNull(rows.get(1).get("assignee_id"));
+    }
+
+    @Test
+    void importCsv_MissingRequiredColumn_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskImportService.importCsv(stream("title,status\r\nA,PENDING\r\n"), admin));
+    }
+
+    @Test
+    void importNdjson_ReadFailsMidStream_ReportsLoadedBatchesAndFirstUnloadedRow() {
+        // Arrange
+        String rows = String.join("\n",
+                "{\"title\":\"First\",\"status\":\"PENDING\",\"priority\":\"LOW\"}",
+                "{\"title\":\"Second\",\"status\":\"PENDING\",\"priority\":\"LOW\"}",
+                "{\"title\":\"Third\",\"status\":\"PENDING\",\"priority\":\"LOW\"}\n");
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Соединение разорвано");
+            }
+        };
+
+        // Act
+        TaskImportAbortedException exception = assertThrows(TaskImportAbortedException.class,
+                () -> taskImportService.importNdjson(new SequenceInputStream(stream(rows), broken), admin));
+
+        // Assert
+        TaskImportReportDTO report = exception.getReport();
+        assertEquals(2, report.getImported());
+        assertEquals(3L, report.getFailure().getRow());
+        assertEquals("Соединение разорвано", report.getFailure().getMessage());
+        assertEquals(List.of("First", "Second"),
+                jdbcTemplate.queryForList("SELECT title FROM task ORDER BY id", String.class));
+    }
+
+    @Test
+    void importCsv_UnclosedQuoteAfterLoadedBatch_ReportsFirstUnloadedRow() {
+        // Arrange
+        String body = "title,status,priority\r\n"
+                + "A,PENDING,LOW\r\n"
+                + "B,PENDING,LOW\r\n"
+                + "C,PENDING,LOW\r\n"
+                + ",,\r\n"
+                + "\"D,PENDING,LOW\r\n";
+
+        // Act
+        TaskImportAbortedException exception = assertThrows(TaskImportAbortedException.class,
+                () -> taskImportService.importCsv(stream(body), admin));
+
+        // Assert
+        TaskImportReportDTO report = exception.getReport();
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(3L, report.getFailure().getRow());
+        assertTrue(report.getFailure().getMessage().contains("кавычки"));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Integer.class));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
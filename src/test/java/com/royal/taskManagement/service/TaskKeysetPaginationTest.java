@@ -0,0 +1,92 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.CursorPageDTO;
+import com.royal.taskManagement.dto.TaskSummaryDTO;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.repository.TaskDataJpaTest;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет постраничную выборку задач по курсору: порядок, отсутствие пропусков и повторов
+ * при одинаковых значениях поля сортировки и постоянное число запросов на страницу.
+ */
+@TaskServiceSlice
+public class TaskKeysetPaginationTest extends TaskDataJpaTest {
+
+    private static final int TASK_COUNT = 25;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    private User author;
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author@example.com");
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = persistTask(author, null, TaskStatus.PENDING, TaskPriority.MEDIUM);
+            task.setTitle("Task " + (i % 4));
+            tasks.add(task);
+            if (i % 3 == 0) {
+                persistComment(task, author);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listTasks_ByAuthorCursor_WalksAllPagesInOrderWithoutGapsOrDuplicates() {
+        // Arrange
+        List<Long> expected = tasks.stream()
+                .sorted(Comparator.comparing(Task::getTitle).thenComparing(Task::getId).reversed())
+                .map(Task::getId)
+                .toList();
+        Statistics statistics = statistics();
+        List<Long> actual = new ArrayList<>();
+
+        // Act
+        String cursor = "";
+        int pages = 0;
+        do {
+            statistics.clear();
+            CursorPageDTO<?> page = assertInstanceOf(CursorPageDTO.class, taskService.listTasks(author,
+                    TaskListQuery.of(TaskListQuery.Scope.AUTHOR, null, cursor, null, null),
+                    PageRequest.of(5, 7, Sort.by(Sort.Direction.DESC, "title"))));
+            page.getContent().stream().map(TaskSummaryDTO.class::cast).forEach(summary -> {
+                actual.add(summary.getId());
+                assertEquals(summary.getId() % 3 == tasks.get(0).getId() % 3 ? 1 : 0, summary.getCommentCount());
+            });
+            // Assert: окно задач и количество комментариев, без COUNT(*) по задачам
+            assertEquals(2, statistics.getPrepareStatementCount());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(expected, actual);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void listTasks_ByAuthorCursor_InvalidCursor_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.listTasks(author, TaskListQuery.of(TaskListQuery.Scope.AUTHOR, null, "not-a-cursor", null, null),
+                        PageRequest.of(0, 7)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.dto.PageDTO;
+import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskListResponse;
+import com.royal.taskManagement.entity.Task;
+import com.royal.taskManagement.entity.User;
+import com.royal.taskManagement.entity.enums.TaskPriority;
+import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.repository.TaskDataJpaTest;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Проверяет, что страница задач с комментариями загружается фиксированным числом SQL-запросов
+ * независимо от количества комментариев.
+ */
+@TaskServiceSlice
+public class TaskPageQueryCountTest extends TaskDataJpaTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10})
+    void listTasks_ByAuthorWithComments_PageOf100Tasks_UsesFixedStatementCount(int commentsPerTask) {
+        // Arrange
+        User author = persistUser("author@example.com");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Task task = persistTask(author, null, TaskStatus.PENDING, TaskPriority.MEDIUM);
+            for (int j = 0; j < commentsPerTask; j++) {
+                persistComment(task, author);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        User detachedAuthor = new User();
+        detachedAuthor.setId(author.getId());
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        TaskListResponse<?> page = taskService.listTasks(detachedAuthor,
+                TaskListQuery.of(TaskListQuery.Scope.AUTHOR, "comments", null, null, null), PageRequest.of(0, PAGE_SIZE));
+
+        // Assert: страница задач, подсчет общего числа и один запрос комментариев
+        assertInstanceOf(PageDTO.class, page);
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertTrue(page.getContent().stream().map(TaskDTO.class::cast)
+                .allMatch(task -> task.getComments().size() == commentsPerTask));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,25 @@
+package com.royal.taskManagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Подключает к тесту слоя данных настоящие сервисы задач поверх репозиториев.
+ * Повтор при конфликте ускорен, чтобы конкурентные тесты не ждали паузы между попытками.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Import({TaskServiceImpl.class, TaskBulkServiceImpl.class, TaskCache.class, TaskDeletionExecutor.class, ConflictRetry.class,
+        SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "app.conflictRetryAttempts=5",
+        "app.conflictRetryBackoffMillis=1"
+})
+@interface TaskServiceSlice {
+}
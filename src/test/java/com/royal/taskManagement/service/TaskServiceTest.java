@@ -1,26 +1,46 @@
 package com.royal.taskManagement.service;
 
+import com.royal.taskManagement.dto.PageDTO;
+import com.royal.taskManagement.dto.SliceDTO;
+import com.royal.taskManagement.dto.TaskAccessDTO;
 import com.royal.taskManagement.dto.TaskDTO;
+import com.royal.taskManagement.dto.TaskFilterDTO;
+import com.royal.taskManagement.dto.TaskSummaryDTO;
+import com.royal.taskManagement.entity.Comment;
 import com.royal.taskManagement.entity.Role;
 import com.royal.taskManagement.entity.Task;
 import com.royal.taskManagement.entity.User;
 import com.royal.taskManagement.entity.enums.TaskPriority;
 import com.royal.taskManagement.entity.enums.TaskStatus;
+import com.royal.taskManagement.exception.ConflictException;
+import com.royal.taskManagement.exception.PreconditionFailedException;
+import com.royal.taskManagement.exception.ResourceNotFoundException;
+import com.royal.taskManagement.repository.CommentRepository;
 import com.royal.taskManagement.repository.TaskRepository;
 import com.royal.taskManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
+import org.mockito.Spy;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class TaskServiceTest {
@@ -31,6 +51,18 @@ public class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Spy
+    private TaskCache taskCache = new TaskCache(100, 60);
+
+    @Mock
+    private TaskDeletionExecutor taskDeletionExecutor;
+
+    @Spy
+    private ConflictRetry conflictRetry = new ConflictRetry(3, 0, new SimpleMeterRegistry());
+
     @Mock
     private CommentService commentService;
 
@@ -194,6 +226,197 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void getTaskById_RepeatedCalls_LoadTaskOnce() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // Act
+        TaskDTO first = taskService.getTaskById(1L, author);
+        TaskDTO second = taskService.getTaskById(1L, assignee);
+
+        // Assert
+        assertSame(first, second);
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getTaskById_CachedTask_StillChecksCallerAccess() {
+        // Arrange
+        User unauthorized = new User();
+        unauthorized.setId(4L);
+        unauthorized.setRoles(new HashSet<>(Collections.singletonList(new Role())));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        taskService.getTaskById(1L, author);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> taskService.getTaskById(1L, unauthorized));
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getTaskById_CachedTask_DoesNotQueryDatabase() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        taskService.getTaskById(1L, author);
+        clearInvocations(taskRepository, commentRepository);
+
+        // Act
+        taskService.getTaskById(1L, author);
+
+        // Assert
+        verifyNoInteractions(taskRepository, commentRepository);
+    }
+
+    @Test
+    void getTaskVersion_StaleCachedTask_EvictsSoNextGetReloads() {
+        // Arrange
+        task.setVersion(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        taskService.getTaskById(1L, author);
+        task.setVersion(2L);
+        when(taskRepository.findVersionWithParticipantsById(1L)).thenReturn(Optional.of(new TaskAccessDTO(2L, 1L, 2L)));
+
+        // Act
+        Long version = taskService.getTaskVersion(1L, assignee);
+        TaskDTO result = taskService.getTaskById(1L, author);
+
+        // Assert
+        assertEquals(2L, version);
+        assertEquals(2L, result.getVersion());
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getTaskVersion_CurrentCachedTask_KeepsCacheAndSkipsTaskLoad() {
+        // Arrange
+        task.setVersion(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        taskService.getTaskById(1L, author);
+        when(taskRepository.findVersionWithParticipantsById(1L)).thenReturn(Optional.of(new TaskAccessDTO(1L, 1L, 2L)));
+
+        // Act
+        taskService.getTaskVersion(1L, author);
+        taskService.getTaskById(1L, author);
+
+        // Assert
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getTaskVersion_Unauthorized_ThrowsException() {
+        // Arrange
+        User unauthorized = new User();
+        unauthorized.setId(4L);
+        unauthorized.setRoles(new HashSet<>(Collections.singletonList(new Role())));
+        when(taskRepository.findVersionWithParticipantsById(1L)).thenReturn(Optional.of(new TaskAccessDTO(0L, 1L, 2L)));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> taskService.getTaskVersion(1L, unauthorized));
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void updateTaskStatus_InvalidatesCachedTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.updateStatus(1L, TaskStatus.COMPLETED, null)).thenAnswer(invocation -> {
+            task.setStatus(TaskStatus.COMPLETED);
+            return Optional.of(patched(task));
+        });
+        taskService.getTaskById(1L, author);
+
+        // Act
+        taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, author);
+        TaskDTO result = taskService.getTaskById(1L, author);
+
+        // Assert
+        assertEquals(TaskStatus.COMPLETED, result.getStatus());
+        verify(taskCache, times(1)).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void updateTaskStatus_StaleExpectedVersion_ThrowsPreconditionFailed() {
+        // Arrange
+        when(taskRepository.updateStatus(1L, TaskStatus.COMPLETED, 2L)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, author, 2L));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskCache, never()).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void updateTaskStatus_TaskNotFound_ThrowsResourceNotFound() {
+        // Arrange
+        when(taskRepository.updateStatus(1L, TaskStatus.COMPLETED, null)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, author));
+    }
+
+    @Test
+    void updateTaskStatus_LockConflict_RetriesAndSucceeds() {
+        // Arrange
+        when(taskRepository.updateStatus(1L, TaskStatus.COMPLETED, null))
+                .thenThrow(new CannotAcquireLockException("lock timeout"))
+                .thenReturn(Optional.of(patched(task)));
+
+        // Act
+        TaskDTO result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, author);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(taskRepository, times(2)).updateStatus(1L, TaskStatus.COMPLETED, null);
+        verify(taskCache, times(1)).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void updateTaskPriority_PersistentConflict_ThrowsConflictAfterBoundedAttempts() {
+        // Arrange
+        when(taskRepository.updatePriority(1L, TaskPriority.HIGH, null))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThrows(ConflictException.class,
+                () -> taskService.updateTaskPriority(1L, TaskPriority.HIGH, author));
+        verify(taskRepository, times(3)).updatePriority(1L, TaskPriority.HIGH, null);
+        verify(taskCache, never()).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void updateTask_ConcurrentModification_ThrowsConflictWithoutRetry() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
+        when(taskRepository.save(any(Task.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> taskService.updateTask(1L, taskDTO, author));
+        verify(taskRepository, times(1)).save(any(Task.class));
+    }
+
+    @Test
+    void updateTask_MatchingExpectedVersion_Success() {
+        // Arrange
+        task.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        // Act
+        TaskDTO result = taskService.updateTask(1L, taskDTO, author, 3L);
+
+        // Assert
+        assertEquals(3L, result.getVersion());
+        verify(taskRepository, times(1)).save(any(Task.class));
+    }
+
     @Test
     void updateTask_Success() {
         // Arrange
@@ -220,23 +443,50 @@ public class TaskServiceTest {
     @Test
     void deleteTask_Success() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        doNothing().when(taskRepository).delete(task);
+        when(commentRepository.deleteAllByTaskId(1L)).thenReturn(3);
+        when(taskRepository.deleteRowById(1L)).thenReturn(1);
 
         // Act
         taskService.deleteTask(1L, author);
 
         // Assert
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).delete(task);
+        verify(commentRepository, times(1)).deleteAllByTaskId(1L);
+        verify(taskRepository, times(1)).deleteRowById(1L);
+        verify(taskRepository, never()).findById(1L);
+        verify(taskRepository, never()).delete(any(Task.class));
+        verify(taskCache, times(1)).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void deleteTask_NotFound_ThrowsResourceNotFound() {
+        // Arrange
+        when(taskRepository.deleteRowById(1L)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(1L, author));
+        verify(taskCache, never()).invalidateAfterCommit(1L);
+    }
+
+    @Test
+    void deleteTaskAsync_SubmitsExistingTask() {
+        // Arrange
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
+        when(taskRepository.findVersionById(2L)).thenReturn(Optional.empty());
+
+        // Act
+        taskService.deleteTaskAsync(1L, author);
+
+        // Assert
+        verify(taskDeletionExecutor, times(1)).submit(1L);
+        assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTaskAsync(2L, author));
+        verify(taskDeletionExecutor, never()).submit(2L);
     }
 
     @Test
     void assignTask_Success() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        task.setAssignee(assignee);
+        when(taskRepository.updateAssignee(1L, 2L, null)).thenReturn(Optional.of(patched(task)));
 
         // Act
         TaskDTO result = taskService.assignTask(1L, 2L, author);
@@ -244,103 +494,237 @@ public class TaskServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(assignee.getId(), result.getAssigneeId());
-        verify(taskRepository, times(1)).findById(1L);
-        verify(userRepository, times(1)).findById(2L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertNull(result.getComments());
+        verify(taskRepository, times(1)).updateAssignee(1L, 2L, null);
+        verify(taskRepository, never()).findById(1L);
+        verify(userRepository, never()).findById(2L);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void assignTask_UnknownAssignee_ThrowsResourceNotFound() {
+        // Arrange
+        when(taskRepository.updateAssignee(1L, 99L, null))
+                .thenThrow(new DataIntegrityViolationException("fk_task_assignee"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> taskService.assignTask(1L, 99L, author));
+        verify(taskCache, never()).invalidateAfterCommit(1L);
     }
 
     @Test
     void updateTaskStatus_Success() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        task.setStatus(TaskStatus.COMPLETED);
+        when(taskRepository.updateStatus(1L, TaskStatus.COMPLETED, null)).thenReturn(Optional.of(patched(task)));
 
         // Act
         TaskDTO result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, author);
 
         // Assert
         assertNotNull(result);
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals(TaskStatus.COMPLETED, result.getStatus());
+        verify(taskRepository, times(1)).updateStatus(1L, TaskStatus.COMPLETED, null);
+        verify(taskRepository, never()).findById(1L);
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     void updateTaskPriority_Success() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        task.setPriority(TaskPriority.HIGH);
+        when(taskRepository.updatePriority(1L, TaskPriority.HIGH, null)).thenReturn(Optional.of(patched(task)));
 
         // Act
         TaskDTO result = taskService.updateTaskPriority(1L, TaskPriority.HIGH, author);
 
         // Assert
         assertNotNull(result);
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals(TaskPriority.HIGH, result.getPriority());
+        verify(taskRepository, times(1)).updatePriority(1L, TaskPriority.HIGH, null);
+        verify(taskRepository, never()).findById(1L);
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
-    void getTasksByAuthor_Success() {
+    void listTasks_ByAuthorWithComments_LoadsCommentsForPageInOneQuery() {
         // Arrange
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
-        when(taskRepository.findByAuthor(author, pageable)).thenReturn(taskPage);
+        Task second = new Task();
+        second.setId(2L);
+        second.setAuthor(author);
+        Comment comment = new Comment();
+        comment.setId(10L);
+        comment.setText("Comment");
+        comment.setTask(task);
+        comment.setAuthor(author);
+        when(taskRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(task, second)));
+        when(commentRepository.findByTaskIdIn(List.of(1L, 2L))).thenReturn(List.of(comment));
 
         // Act
-        Page<TaskDTO> result = taskService.getTasksByAuthor(author, pageable);
+        PageDTO<?> result = assertInstanceOf(PageDTO.class,
+                taskService.listTasks(author, query(TaskListQuery.Scope.AUTHOR, "comments", null, null), pageable));
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        verify(taskRepository, times(1)).findByAuthor(author, pageable);
+        List<TaskDTO> tasks = result.getContent().stream().map(TaskDTO.class::cast).toList();
+        assertEquals(2, tasks.size());
+        assertEquals(1, tasks.get(0).getComments().size());
+        assertEquals(10L, tasks.get(0).getComments().get(0).getId());
+        assertTrue(tasks.get(1).getComments().isEmpty());
+        verify(commentRepository, times(1)).findByTaskIdIn(List.of(1L, 2L));
     }
 
     @Test
-    void getTasksByAssignee_Success() {
+    void listTasks_Summaries_CountsCommentsForPageInOneQuery() {
         // Arrange
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
-        when(taskRepository.findByAssignee(assignee, pageable)).thenReturn(taskPage);
+        when(taskRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(task)));
+        when(commentRepository.countByTaskIdIn(List.of(1L))).thenReturn(List.<Object[]>of(new Object[]{1L, 5L}));
 
         // Act
-        Page<TaskDTO> result = taskService.getTasksByAssignee(assignee, pageable);
+        PageDTO<?> result = assertInstanceOf(PageDTO.class,
+                taskService.listTasks(assignee, query(TaskListQuery.Scope.ASSIGNEE, null, null, null), pageable));
 
         // Assert
-        assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(taskRepository, times(1)).findByAssignee(assignee, pageable);
+        assertEquals(5L, assertInstanceOf(TaskSummaryDTO.class, result.getContent().get(0)).getCommentCount());
+        verify(commentRepository, never()).findByTaskIdIn(any());
     }
 
     @Test
-    void getTasksByAuthorOrAssignee_Admin_Success() {
+    void listTasks_TotalNone_ReturnsSliceWithoutCount() {
         // Arrange
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
-        when(taskRepository.findAll(pageable)).thenReturn(taskPage);
+        when(taskRepository.findBy(any(Specification.class), any()))
+                .thenReturn(Window.from(List.of(task), ScrollPosition::offset, true));
 
         // Act
-        Page<TaskDTO> result = taskService.getTasksByAuthorOrAssignee(admin, admin, pageable);
+        SliceDTO<?> result = assertInstanceOf(SliceDTO.class,
+                taskService.listTasks(author, query(TaskListQuery.Scope.VISIBLE, null, null, "none"), pageable));
 
         // Assert
-        assertNotNull(result);
+        assertTrue(result.isHasNext());
         assertEquals(1, result.getContent().size());
-        verify(taskRepository, times(1)).findAll(pageable);
+        verify(taskRepository, never()).count();
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @Test
-    void getTasksByAuthorOrAssignee_NonAdmin_Success() {
+    void listTasks_ApproximateTotal_Admin_UsesPlannerEstimate() {
         // Arrange
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
-        when(taskRepository.findByAuthorOrAssignee(author, author, pageable)).thenReturn(taskPage);
+        when(taskRepository.findBy(any(Specification.class), any()))
+                .thenReturn(Window.from(List.of(task), ScrollPosition::offset, true));
+        when(taskRepository.estimateCount()).thenReturn(20_000_000L);
 
         // Act
-        Page<TaskDTO> result = taskService.getTasksByAuthorOrAssignee(author, author, pageable);
+        PageDTO<?> result = assertInstanceOf(PageDTO.class,
+                taskService.listTasks(admin, query(TaskListQuery.Scope.VISIBLE, null, null, "approximate"), pageable));
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        verify(taskRepository, times(1)).findByAuthorOrAssignee(author, author, pageable);
+        assertEquals(20_000_000L, result.getTotalElements());
+        verify(taskRepository, never()).count();
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void listTasks_ApproximateTotal_NoStatistics_FallsBackToCount() {
+        // Arrange
+        when(taskRepository.findBy(any(Specification.class), any()))
+                .thenReturn(Window.from(List.of(task), ScrollPosition::offset, true));
+        when(taskRepository.estimateCount()).thenReturn(-1L);
+        when(taskRepository.count()).thenReturn(42L);
+
+        // Act
+        PageDTO<?> result = assertInstanceOf(PageDTO.class,
+                taskService.listTasks(admin, query(TaskListQuery.Scope.VISIBLE, null, null, "approximate"), pageable));
+
+        // Assert
+        assertEquals(42L, result.getTotalElements());
+    }
+
+    @Test
+    void listTasks_ApproximateTotal_NonAdmin_CountsExactly() {
+        // Arrange
+        when(taskRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of()));
+
+        // Act
+        taskService.listTasks(author, query(TaskListQuery.Scope.VISIBLE, null, null, "approximate"), pageable);
+
+        // Assert
+        verify(taskRepository, times(1)).findAll(any(Specification.class), eq(pageable));
+        verify(taskRepository, never()).estimateCount();
+    }
+
+    @Test
+    void taskListQuery_UnknownInclude_Rejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> query(TaskListQuery.Scope.AUTHOR, "history", null, null));
+    }
+
+    @Test
+    void taskListQuery_UnknownTotal_Rejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> query(TaskListQuery.Scope.AUTHOR, null, null, "roughly"));
+    }
+
+    @Test
+    void taskListQuery_CursorWithCountedTotal_Rejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> query(TaskListQuery.Scope.VISIBLE, null, "", "exact"));
+        assertEquals(TaskListQuery.Total.NONE, query(TaskListQuery.Scope.VISIBLE, null, "", "none").getTotal());
+    }
+
+    @Test
+    void taskListQuery_ApproximateTotalWithFilterOrScope_Rejected() {
+        // Arrange
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setStatus(TaskStatus.PENDING);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> TaskListQuery.of(TaskListQuery.Scope.VISIBLE, null, null, "approximate", filter));
+        assertThrows(IllegalArgumentException.class, () -> query(TaskListQuery.Scope.AUTHOR, null, null, "approximate"));
+    }
+
+    @Test
+    void searchTasks_Admin_KeepsRankOrderAndDetectsNextPage() {
+        // Arrange
+        Task second = new Task();
+        second.setId(2L);
+        second.setTitle("Second");
+        second.setStatus(TaskStatus.PENDING);
+        second.setPriority(TaskPriority.HIGH);
+        second.setAuthor(author);
+        Pageable firstTwo = org.springframework.data.domain.PageRequest.of(0, 2);
+        when(taskRepository.searchIds("отчет", null, 3, 0L)).thenReturn(List.of(2L, 1L, 5L));
+        when(taskRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(task, second));
+        when(commentRepository.countByTaskIdIn(List.of(2L, 1L))).thenReturn(List.<Object[]>of(new Object[]{1L, 4L}));
+
+        // Act
+        Slice<TaskSummaryDTO> result = taskService.searchTasks("отчет", admin, firstTwo);
+
+        // Assert
+        assertTrue(result.hasNext());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(TaskSummaryDTO::getId).toList());
+        assertEquals(4L, result.getContent().get(1).getCommentCount());
+    }
+
+    @Test
+    void searchTasks_NonAdmin_SearchesOnlyVisibleTasks() {
+        // Arrange
+        Pageable firstTwo = org.springframework.data.domain.PageRequest.of(0, 2);
+        when(taskRepository.searchIds("отчет", 1L, 3, 0L)).thenReturn(List.of());
+        when(taskRepository.findAllById(List.of())).thenReturn(List.of());
+
+        // Act
+        Slice<TaskSummaryDTO> result = taskService.searchTasks("отчет", author, firstTwo);
+
+        // Assert
+        assertFalse(result.hasNext());
+        assertTrue(result.getContent().isEmpty());
+        verify(taskRepository, times(1)).searchIds("отчет", 1L, 3, 0L);
+    }
+
+    @Test
+    void searchTasks_BlankQuery_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("  ", author, pageable));
     }
 
     @Test
@@ -358,4 +742,24 @@ public class TaskServiceTest {
         assertEquals(task.getAuthor().getId(), result.getAuthorId());
         assertEquals(task.getAssignee().getId(), result.getAssigneeId());
     }
-}
\ No newline at end of file
+
+    /**
+     * Строка, которую возвращает точечное изменение задачи: без комментариев.
+     */
+    private static TaskDTO patched(Task task) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(task.getId());
+        dto.setTitle(task.getTitle());
+        dto.setDescription(task.getDescription());
+        dto.setStatus(task.getStatus());
+        dto.setPriority(task.getPriority());
+        dto.setAuthorId(task.getAuthor().getId());
+        dto.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        dto.setVersion(task.getVersion());
+        return dto;
+    }
+
+    private static TaskListQuery query(TaskListQuery.Scope scope, String include, String cursor, String total) {
+        return TaskListQuery.of(scope, include, cursor, total, null);
+    }
+}
@@ -0,0 +1,188 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.repository.RevokedTokenRepository;
+import com.royal.taskManagement.utils.BloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TokenRevocationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, 0.01,
+                Clock.fixed(NOW, ZoneOffset.UTC), nanos::get, new SimpleMeterRegistry());
+    }
+
+    private static VerifiedToken token(String tokenId) {
+        return new VerifiedToken("user@example.com", NOW, NOW.plusSeconds(900), 1L, List.of("USER"), 0L,
+                tokenId, "access");
+    }
+
+    private static VerifiedToken refreshToken(String tokenId) {
+        return new VerifiedToken("user@example.com", NOW, NOW.plusSeconds(1_209_600), 1L, List.of("USER"), 0L,
+                tokenId, "refresh");
+    }
+
+    @Test
+    void isRevoked_UnknownToken_SkipsDatabase() {
+        // Act
+        boolean revoked = tokenRevocationService.isRevoked(token("jti-1"));
+
+        // Assert
+        assertFalse(revoked);
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void revoke_ThenIsRevoked_ReturnsTrue() {
+        // Arrange
+        when(revokedTokenRepository.insertIfAbsent("jti-1", "access", NOW.plusSeconds(900), NOW)).thenReturn(1);
+
+        // Act
+        boolean firstRevoke = tokenRevocationService.revoke(token("jti-1"));
+        boolean revoked = tokenRevocationService.isRevoked(token("jti-1"));
+
+        // Assert
+        assertTrue(firstRevoke);
+        assertTrue(revoked);
+    }
+
+    @Test
+    void revoke_AlreadyRevoked_ReturnsFalse() {
+        // Arrange
+        when(revokedTokenRepository.insertIfAbsent(anyString(), anyString(), any(), any())).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(tokenRevocationService.revoke(token("jti-1")));
+    }
+
+    @Test
+    void revoke_RefreshToken_MarksInDatabaseWithoutFillingFilter() {
+        // Arrange
+        when(revokedTokenRepository.insertIfAbsent("jti-r", "refresh", NOW.plusSeconds(1_209_600), NOW))
+                .thenReturn(1, 0);
+
+        // Act
+        boolean firstUse = tokenRevocationService.revoke(refreshToken("jti-r"));
+        boolean reuse = tokenRevocationService.revoke(refreshToken("jti-r"));
+        boolean inFilter = tokenRevocationService.isRevoked(token("jti-r"));
+
+        // Assert
+        assertTrue(firstUse);
+        assertFalse(reuse);
+        assertFalse(inFilter);
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void rebuild_LoadsOnlyAccessTokenRevocations() {
+        // Arrange
+        when(revokedTokenRepository.findActiveTokenIds("access", NOW)).thenReturn(List.of());
+
+        // Act
+        tokenRevocationService.rebuild();
+
+        // Assert
+        verify(revokedTokenRepository).findActiveTokenIds("access", NOW);
+        verify(revokedTokenRepository, never()).findActiveTokenIds(eq("refresh"), any());
+    }
+
+    @Test
+    void rebuild_LoadsRevokedTokens_AndConfirmsInDatabase() {
+        // Arrange
+        when(revokedTokenRepository.findActiveTokenIds("access", NOW)).thenReturn(List.of("jti-1"));
+        when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+
+        // Act
+        tokenRevocationService.rebuild();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(token("jti-1")));
+        assertTrue(tokenRevocationService.isRevoked(token("jti-1")));
+        verify(revokedTokenRepository, times(1)).deleteExpired(NOW);
+        verify(revokedTokenRepository, times(1)).existsById("jti-1");
+    }
+
+    @Test
+    void rebuild_RevokeDuringDatabaseRead_StaysRevoked() {
+        // Arrange
+        when(revokedTokenRepository.insertIfAbsent(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(revokedTokenRepository.existsById("jti-2")).thenReturn(true);
+        when(revokedTokenRepository.findActiveTokenIds("access", NOW)).thenAnswer(invocation -> {
+            tokenRevocationService.revoke(token("jti-2"));
+            return List.of("jti-1");
+        });
+
+        // Act
+        tokenRevocationService.rebuild();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(token("jti-2")));
+    }
+
+    @Test
+    void isRevoked_NegativeAnswer_ExpiresSoonAndIsDroppedOnRebuild() {
+        // Arrange
+        when(revokedTokenRepository.findActiveTokenIds("access", NOW)).thenReturn(List.of("jti-1"));
+        when(revokedTokenRepository.existsById("jti-1")).thenReturn(false, false, true);
+        tokenRevocationService.rebuild();
+
+        // Act
+        boolean first = tokenRevocationService.isRevoked(token("jti-1"));
+        boolean cached = tokenRevocationService.isRevoked(token("jti-1"));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        boolean afterExpiry = tokenRevocationService.isRevoked(token("jti-1"));
+        tokenRevocationService.rebuild();
+        boolean afterRebuild = tokenRevocationService.isRevoked(token("jti-1"));
+
+        // Assert
+        assertFalse(first);
+        assertFalse(cached);
+        assertFalse(afterExpiry);
+        assertTrue(afterRebuild);
+        verify(revokedTokenRepository, times(3)).existsById("jti-1");
+    }
+
+    @Test
+    void bloomFilter_NoFalseNegatives_AndBoundedFalsePositives() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> added = Stream.generate(() -> UUID.randomUUID().toString()).limit(10_000).toList();
+        added.forEach(filter::add);
+
+        // Act
+        long falsePositives = Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(100_000)
+                .filter(filter::mightContain)
+                .count();
+
+        // Assert
+        assertTrue(added.stream().allMatch(filter::mightContain));
+        assertTrue(falsePositives < 2_000, "Ложноположительных ответов: " + falsePositives);
+    }
+}
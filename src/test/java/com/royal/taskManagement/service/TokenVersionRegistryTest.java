@@ -0,0 +1,62 @@
+package com.royal.taskManagement.service;
+
+import com.royal.taskManagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TokenVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository, 60, 100);
+    }
+
+    @Test
+    void isCurrent_LoadsVersionOnce() {
+        // Arrange
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(2L));
+
+        // Act & Assert
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 2L));
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 2L));
+        assertFalse(tokenVersionRegistry.isCurrent(1L, 1L));
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void isCurrent_UnknownUser_ReturnsFalse() {
+        // Arrange
+        when(userRepository.findTokenVersionById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertFalse(tokenVersionRegistry.isCurrent(99L, 0L));
+        assertFalse(tokenVersionRegistry.isCurrent(null, 0L));
+    }
+
+    @Test
+    void invalidateAfterCommit_OutsideTransaction_ReloadsVersion() {
+        // Arrange
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0L), Optional.of(1L));
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 0L));
+
+        // Act
+        tokenVersionRegistry.invalidateAfterCommit(1L);
+
+        // Assert
+        assertFalse(tokenVersionRegistry.isCurrent(1L, 0L));
+        assertTrue(tokenVersionRegistry.isCurrent(1L, 1L));
+    }
+}
@@ -2,13 +2,13 @@ package com.royal.taskManagement.service;
 
 import com.royal.taskManagement.entity.Role;
 import com.royal.taskManagement.entity.User;
-import com.royal.taskManagement.repository.RoleRepository;
 import com.royal.taskManagement.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collections;
@@ -25,7 +25,13 @@ public class UserDetailsServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Spy
+    private UserCache userCache = new UserCache(100, 60);
 
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
@@ -72,13 +78,39 @@ public class UserDetailsServiceTest {
         verify(userRepository, times(1)).findByEmail("user@example.com");
     }
 
+    @Test
+    void loadUserByUsername_SecondCall_ServedFromCache() {
+        // Arrange
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
 
+        // Act
+        userDetailsService.loadUserByUsername("user@example.com");
+        UserDetails result = userDetailsService.loadUserByUsername("user@example.com");
+
+        // Assert
+        assertEquals(user.getEmail(), result.getUsername());
+        verify(userRepository, times(1)).findByEmail("user@example.com");
+    }
+
+    @Test
+    void userExists_CachedUser_SkipsRepository() {
+        // Arrange
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        userDetailsService.findUserByEmail("user@example.com");
+
+        // Act
+        boolean exists = userDetailsService.userExists("user@example.com");
+
+        // Assert
+        assertTrue(exists);
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
 
     @Test
     void addAdminRole_Success() {
         // Arrange
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(roleRepository.findByName("ADMIN")).thenReturn(adminRole);
+        when(roleRegistry.getRole("ADMIN")).thenReturn(adminRole);
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         // Act
@@ -86,9 +118,32 @@ public class UserDetailsServiceTest {
 
         // Assert
         verify(userRepository, times(1)).findById(1L);
-        verify(roleRepository, times(1)).findByName("ADMIN");
+        verify(roleRegistry, times(1)).getRole("ADMIN");
         verify(userRepository, times(1)).save(user);
         assertTrue(user.getRoles().contains(adminRole));
+        assertEquals(1L, user.getTokenVersion());
+        verify(tokenVersionRegistry, times(1)).invalidateAfterCommit(1L);
+        verify(userCache, times(1)).invalidateAfterCommit(1L, "user@example.com");
+    }
+
+    @Test
+    void addAdminRole_AlreadyAdmin_ComparesRolesByName() {
+        // Arrange
+        Role loadedAdminRole = new Role();
+        loadedAdminRole.setId(2L);
+        loadedAdminRole.setName("ADMIN");
+        user.getRoles().add(loadedAdminRole);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(roleRegistry.getRole("ADMIN")).thenReturn(adminRole);
+
+        // Act
+        userDetailsService.addAdminRole(1L);
+
+        // Assert
+        assertEquals(2, user.getRoles().size());
+        assertEquals(0L, user.getTokenVersion());
+        verify(userRepository, never()).save(any(User.class));
+        verify(tokenVersionRegistry, never()).invalidateAfterCommit(anyLong());
     }
 
     @Test
@@ -99,8 +154,9 @@ public class UserDetailsServiceTest {
         // Act & Assert
         assertThrows(RuntimeException.class, () -> userDetailsService.addAdminRole(999L));
         verify(userRepository, times(1)).findById(999L);
-        verify(roleRepository, never()).findByName(anyString());
+        verify(roleRegistry, never()).getRole(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(tokenVersionRegistry, never()).invalidateAfterCommit(anyLong());
     }
 
 
@@ -0,0 +1,122 @@
+package com.royal.taskManagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerifiedTokenCacheTest {
+
+    private MutableClock clock;
+    private VerifiedTokenCache tokenCache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        tokenCache = new VerifiedTokenCache(100, clock, () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+        verifications = new AtomicInteger();
+    }
+
+    private Function<String, Optional<VerifiedToken>> verifierExpiringIn(Duration ttl) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Optional.of(new VerifiedToken("user@example.com", clock.instant(), clock.instant().plus(ttl)));
+        };
+    }
+
+    @Test
+    void getOrVerify_RepeatedToken_VerifiesOnce() {
+        // Act
+        Optional<VerifiedToken> first = tokenCache.getOrVerify("token-a", verifierExpiringIn(Duration.ofHours(1)));
+        Optional<VerifiedToken> second = tokenCache.getOrVerify("token-a", verifierExpiringIn(Duration.ofHours(1)));
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        assertEquals(1, verifications.get());
+        assertEquals(1, tokenCache.stats().hitCount());
+        assertEquals(1, tokenCache.stats().missCount());
+    }
+
+    @Test
+    void getOrVerify_AfterTokenExpiration_VerifiesAgain() {
+        // Arrange
+        tokenCache.getOrVerify("token-a", verifierExpiringIn(Duration.ofMinutes(5)));
+
+        // Act
+        clock.advance(Duration.ofMinutes(6));
+        tokenCache.getOrVerify("token-a", verifierExpiringIn(Duration.ofMinutes(5)));
+
+        // Assert
+        assertEquals(2, verifications.get());
+        assertEquals(0, tokenCache.stats().hitCount());
+    }
+
+    @Test
+    void getOrVerify_InvalidToken_IsNotCached() {
+        // Arrange
+        Function<String, Optional<VerifiedToken>> rejecting = token -> {
+            verifications.incrementAndGet();
+            return Optional.empty();
+        };
+
+        // Act
+        assertTrue(tokenCache.getOrVerify("bad", rejecting).isEmpty());
+        assertTrue(tokenCache.getOrVerify("bad", rejecting).isEmpty());
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void invalidate_RemovesToken() {
+        // Arrange
+        tokenCache.getOrVerify("token-a", verifierExpiringIn(Duration.ofHours(1)));
+
+        // Act
+        tokenCache.invalidate("token-a");
+        tokenCache.getOrVerify("token-a", verifierExpiringIn(Duration.ofHours(1)));
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.royal.taskManagement.utils;
+
+import com.royal.taskManagement.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ETagsTest {
+
+    private static final String TASK_TAG = "\"task-1-3\"";
+
+    @Test
+    void forTaskAndForComments_DifferForSameVersion() {
+        // Act & Assert
+        assertEquals(TASK_TAG, ETags.forTask(1L, 3L));
+        assertEquals("\"comments-1-3\"", ETags.forComments(1L, 3L));
+    }
+
+    @Test
+    void matches_MissingHeader_ReturnsFalse() {
+        // Act & Assert
+        assertFalse(ETags.matches(null, TASK_TAG));
+        assertFalse(ETags.matches(" ", TASK_TAG));
+    }
+
+    @Test
+    void matches_SameOrWeakTag_ReturnsTrue() {
+        // Act & Assert
+        assertTrue(ETags.matches(TASK_TAG, TASK_TAG));
+        assertTrue(ETags.matches("W/" + TASK_TAG, TASK_TAG));
+        assertTrue(ETags.matches("*", TASK_TAG));
+    }
+
+    @Test
+    void matches_MultipleValues_ChecksEachTag() {
+        // Act & Assert
+        assertTrue(ETags.matches("\"task-1-2\", W/\"task-1-3\"", TASK_TAG));
+        assertTrue(ETags.matches("\"task-1-2\" ,*", TASK_TAG));
+        assertFalse(ETags.matches("\"task-1-2\", \"comments-1-3\"", TASK_TAG));
+    }
+
+    @Test
+    void expectedTaskVersion_MissingHeaderOrAsterisk_ReturnsNull() {
+        // Act & Assert
+        assertNull(ETags.expectedTaskVersion(null, 1L));
+        assertNull(ETags.expectedTaskVersion("", 1L));
+        assertNull(ETags.expectedTaskVersion(" * ", 1L));
+    }
+
+    @Test
+    void expectedTaskVersion_TagOfTask_ReturnsVersion() {
+        // Act & Assert
+        assertEquals(3L, ETags.expectedTaskVersion(TASK_TAG, 1L));
+        assertEquals(3L, ETags.expectedTaskVersion("\"task-2-7\", \"task-1-x\", " + TASK_TAG, 1L));
+    }
+
+    @Test
+    void expectedTaskVersion_WeakTag_ThrowsPreconditionFailed() {
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedTaskVersion("W/" + TASK_TAG, 1L));
+    }
+
+    @Test
+    void expectedTaskVersion_TagOfOtherTaskOrRepresentation_ThrowsPreconditionFailed() {
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedTaskVersion("\"task-11-3\"", 1L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedTaskVersion("\"comments-1-3\"", 1L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedTaskVersion("\"task-1-\"", 1L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.expectedTaskVersion("task-1-3", 1L));
+    }
+}
@@ -0,0 +1,54 @@
+-- Схема, которую Hibernate (ddl-auto=update) создавал по сущностям baseline-коммита до перехода на миграции,
+-- с данными. Имена внешних ключей сгенерированы Hibernate и отличаются от V1.
+
+create table role (
+    id bigint generated by default as identity,
+    name varchar(255),
+    primary key (id)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255),
+    password varchar(255) not null,
+    primary key (id)
+);
+
+create table users_roles (
+    user_id bigint not null,
+    roles_id bigint not null
+);
+
+create table task (
+    id bigint generated by default as identity,
+    title varchar(100) not null,
+    description varchar(1000),
+    status varchar(255) not null check (status in ('PENDING', 'IN_PROGRESS', 'COMPLETED')),
+    priority varchar(255) not null check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    author_id bigint,
+    assignee_id bigint,
+    primary key (id)
+);
+
+create table comment (
+    id bigint generated by default as identity,
+    text varchar(500) not null,
+    task_id bigint,
+    author_id bigint,
+    primary key (id)
+);
+
+alter table if exists users_roles add constraint FKa62j07k5mhgifpp955h37ponj foreign key (roles_id) references role;
+alter table if exists users_roles add constraint FKml90kef4w2jy7oxyqv742tsfc foreign key (user_id) references users;
+alter table if exists task add constraint FKbrg922bkqn5m7212jsqjg6ioe foreign key (author_id) references users;
+alter table if exists task add constraint FKo4n3jrjs3mn5kh8sc6g9ew7ap foreign key (assignee_id) references users;
+alter table if exists comment add constraint FKfknte4fhjhet3l1802m1yqa50 foreign key (task_id) references task;
+alter table if exists comment add constraint FKh1gtv412u19wcbx22177xbkjp foreign key (author_id) references users;
+
+insert into role (name) values ('USER'), ('ADMIN');
+insert into users (email, password) values ('author@example.com', 'password'), ('bob@example.com', 'password');
+insert into users_roles (user_id, roles_id) values (1, 1), (2, 1);
+insert into task (title, description, status, priority, author_id, assignee_id)
+values ('Подготовить отчет', 'Квартальный отчет', 'PENDING', 'HIGH', 1, 2),
+       ('Проверить отчет', null, 'IN_PROGRESS', 'LOW', 2, null);
+insert into comment (text, task_id, author_id) values ('Начал', 1, 2);